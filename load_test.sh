@@ -0,0 +1,55 @@
+#!/bin/bash
+
+# Visakh Refinery Portal - Load Test Script
+# Boots the application against a seeded in-memory database (profile "loadtest"),
+# drives the public pages and admin save paths, and appends p50/p99 latency and
+# throughput per endpoint to loadtest/results/report.csv.
+#
+# Usage: ./load_test.sh [concurrency] [seconds-per-endpoint] [extra spring args...]
+#
+# Virtual threads (the Java 17 build runs unchanged on a Java 21 runtime):
+#   LOADTEST_JAVA=/path/to/jdk21/bin/java ./load_test.sh 256 30 --spring.profiles.active=virtual-threads
+
+CONCURRENCY=${1:-32}
+DURATION=${2:-30}
+shift 2 2>/dev/null
+PORT=${LOADTEST_PORT:-18080}
+JAVA_CMD=${LOADTEST_JAVA:-java}
+REPORT=loadtest/results/report.csv
+LABEL=$(git rev-parse --short HEAD 2>/dev/null || echo "local")
+
+if ! git diff --quiet 2>/dev/null; then
+    LABEL="${LABEL}-dirty"
+fi
+
+echo "🏭 Visakh Refinery Portal - Load Test ($LABEL)"
+echo "================================================"
+
+echo "🔨 Building the project..."
+mvn -q clean package -DskipTests
+if [ $? -ne 0 ]; then
+    echo "❌ Build failed. Please check the error messages above."
+    exit 1
+fi
+
+JAR=$(ls target/visakh-refinery-portal-*.jar | head -n 1)
+
+echo "🚀 Starting application on port $PORT with the loadtest profile..."
+$JAVA_CMD -jar "$JAR" --server.port="$PORT" --spring.profiles.active=loadtest "$@" > loadtest/app.log 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null' EXIT
+
+# Tomcat accepts requests before LoadTestDataSeeder has finished, so wait for the seed log line
+for i in $(seq 1 120); do
+    if grep -q "Load-test data seeded" loadtest/app.log; then
+        break
+    fi
+    if ! kill -0 $APP_PID 2>/dev/null; then
+        echo "❌ Application failed to start. See loadtest/app.log"
+        exit 1
+    fi
+    sleep 1
+done
+
+echo "✅ Application started, running $CONCURRENCY clients for ${DURATION}s per endpoint"
+java loadtest/LoadTestDriver.java "http://localhost:$PORT" "$CONCURRENCY" "$DURATION" "$REPORT" "$LABEL"
@@ -0,0 +1,241 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP load-test driver for the Visakh Refinery Portal.
+ *
+ * Runs each endpoint for a fixed duration with a fixed number of concurrent
+ * clients and writes one CSV line per endpoint (p50/p90/p99/max latency and
+ * throughput). Launched by load_test.sh as a single-file source program:
+ *
+ *   java loadtest/LoadTestDriver.java [baseUrl] [concurrency] [seconds] [reportFile] [label]
+ */
+public class LoadTestDriver {
+
+    private static final Pattern CSRF_PATTERN =
+            Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"|value=\"([^\"]+)\"\\s+name=\"_csrf\"");
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final HttpClient anonymousClient;
+    private final HttpClient adminClient;
+    private final AtomicLong sequence = new AtomicLong();
+    private String csrfToken;
+
+    public LoadTestDriver(String baseUrl, int concurrency, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.anonymousClient = newClient();
+        this.adminClient = newClient();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        Path reportFile = Path.of(args.length > 3 ? args[3] : "loadtest/results/report.csv");
+        String label = args.length > 4 ? args[4] : "local";
+        String username = System.getProperty("loadtest.username", "loadtest");
+        String password = System.getProperty("loadtest.password", "loadtest123");
+
+        LoadTestDriver driver = new LoadTestDriver(baseUrl, concurrency, Duration.ofSeconds(seconds));
+        driver.login(username, password);
+
+        Map<String, Supplier<HttpRequest>> scenarios = new LinkedHashMap<>();
+        scenarios.put("GET /", () -> driver.get("/"));
+        scenarios.put("GET /whatsnew/list", () -> driver.get("/whatsnew/list"));
+        scenarios.put("GET /messageboard/api/scrolling", () -> driver.get("/messageboard/api/scrolling"));
+        scenarios.put("POST /whatsnew/save", driver::saveWhatsNew);
+        scenarios.put("POST /messageboard/save", driver::saveMessage);
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Supplier<HttpRequest>> scenario : scenarios.entrySet()) {
+            boolean admin = scenario.getKey().startsWith("POST");
+            // Short warm-up so JIT and connection setup do not skew the first endpoint
+            driver.run(scenario.getValue(), admin, Duration.ofSeconds(Math.min(5, seconds)));
+            Result result = driver.run(scenario.getValue(), admin, driver.duration);
+            String line = result.toCsv(label, scenario.getKey(), driver.duration);
+            System.out.println(line);
+            lines.add(line);
+        }
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        boolean newFile = !Files.exists(reportFile);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8,
+                java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.APPEND))) {
+            if (newFile) {
+                out.println(Result.CSV_HEADER);
+            }
+            lines.forEach(out::println);
+        }
+        System.out.println("Report written to " + reportFile);
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private void login(String username, String password) throws IOException, InterruptedException {
+        String loginPage = adminClient.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        String form = "username=" + encode(username) + "&password=" + encode(password)
+                + "&_csrf=" + encode(extractCsrf(loginPage));
+        HttpResponse<String> response = adminClient.send(post("/perform_login", form), HttpResponse.BodyHandlers.ofString());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + username + " (status " + response.statusCode() + ")");
+        }
+        // The session id changes on login, so fetch a token bound to the new session
+        csrfToken = extractCsrf(adminClient.send(get("/messageboard/add"), HttpResponse.BodyHandlers.ofString()).body());
+    }
+
+    private Result run(Supplier<HttpRequest> requestSupplier, boolean admin, Duration runFor) throws Exception {
+        HttpClient client = admin ? adminClient : anonymousClient;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + runFor.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                Result partial = new Result();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(requestSupplier.get(), HttpResponse.BodyHandlers.discarding());
+                        partial.record(System.nanoTime() - start, isSuccess(response));
+                    } catch (IOException e) {
+                        partial.record(System.nanoTime() - start, false);
+                    }
+                }
+                return partial;
+            }));
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+        return total;
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        // A redirect back to the login page means the session or CSRF token was rejected
+        String location = response.headers().firstValue("Location").orElse("");
+        return response.statusCode() < 400 && !location.contains("/login");
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String form) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    private HttpRequest saveWhatsNew() {
+        long n = sequence.incrementAndGet();
+        String form = "title=" + encode("Load test item " + n)
+                + "&description=" + encode("Created by the load-test driver")
+                + "&validFrom=" + LocalDate.now()
+                + "&enabled=true&priority=" + (1 + n % 3)
+                + "&_csrf=" + encode(csrfToken);
+        return post("/whatsnew/save", form);
+    }
+
+    private HttpRequest saveMessage() {
+        long n = sequence.incrementAndGet();
+        String form = "header=" + encode("Load test notice " + n)
+                + "&message=" + encode("Created by the load-test driver")
+                + "&validFrom=" + LocalDate.now()
+                + "&enabled=true&priority=" + (1 + n % 3)
+                + "&_csrf=" + encode(csrfToken);
+        return post("/messageboard/save", form);
+    }
+
+    private static String extractCsrf(String html) {
+        Matcher matcher = CSRF_PATTERN.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No CSRF token found in page");
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Latency samples for one endpoint run.
+     */
+    static class Result {
+        static final String CSV_HEADER = "label,endpoint,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms";
+
+        private long[] samples = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.samples[i], true);
+            }
+            errors += other.errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+
+        String toCsv(String label, String endpoint, Duration duration) {
+            double throughput = count / (duration.toMillis() / 1000.0);
+            return String.format(java.util.Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+                    label, endpoint, count, errors, throughput,
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
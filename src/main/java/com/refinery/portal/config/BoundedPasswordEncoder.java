@@ -0,0 +1,79 @@
+package com.refinery.portal.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Limits how many password hashes are computed at once, so a login storm queues on a
+ * semaphore instead of starving page requests of CPU. Successful matches against an
+ * outdated hash are handed to a rehash callback instead of being upgraded inline,
+ * which keeps the second (and slower) hash off the login request.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    /** Receives a verified raw password whose stored hash should be re-encoded with {@code encoder}. */
+    @FunctionalInterface
+    public interface RehashHandler {
+        void rehash(CharSequence rawPassword, String oldHash, PasswordEncoder encoder);
+    }
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final RehashHandler rehash;
+    private final Timer verifyTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int concurrency,
+                                  RehashHandler rehash, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(Math.max(1, concurrency), true);
+        this.rehash = rehash;
+        this.verifyTimer = meterRegistry.timer("portal.password.verify");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches;
+        acquire();
+        try {
+            matches = delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (matches && delegate.upgradeEncoding(encodedPassword)) {
+            rehash.rehash(rawPassword, encodedPassword, this);
+        }
+        return matches;
+    }
+
+    // Upgrades happen in the background from matches(), never inline in the authentication provider
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash a password", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.refinery.portal.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the auto-configured Caffeine cache manager so that puts and evictions made inside a
+ * transaction are applied after it commits. Otherwise a login between the eviction and the
+ * commit (for example during changePassword) reloads the old row and caches it again.
+ * Outside a transaction the wrapper writes through immediately.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package com.refinery.portal.config;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.entity.CalendarEvent;
+import com.refinery.portal.entity.HindiWord;
+import com.refinery.portal.entity.MessageBoard;
+import com.refinery.portal.entity.TeluguWord;
+import com.refinery.portal.entity.User;
+import com.refinery.portal.entity.WhatsNew;
+import com.refinery.portal.repository.CalendarEventRepository;
+import com.refinery.portal.repository.HindiWordRepository;
+import com.refinery.portal.repository.MessageBoardRepository;
+import com.refinery.portal.repository.TeluguWordRepository;
+import com.refinery.portal.repository.UserRepository;
+import com.refinery.portal.repository.WhatsNewRepository;
+import com.refinery.portal.service.UserService;
+
+/**
+ * Seeds the in-memory load-test database with a deterministic data set.
+ * Only active with the "loadtest" profile (see load_test.sh).
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    @Autowired
+    private WhatsNewRepository whatsNewRepository;
+
+    @Autowired
+    private MessageBoardRepository messageBoardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private HindiWordRepository hindiWordRepository;
+
+    @Autowired
+    private TeluguWordRepository teluguWordRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Value("${loadtest.seed.whatsnew:2000}")
+    private int whatsNewCount;
+
+    @Value("${loadtest.seed.messages:2000}")
+    private int messageCount;
+
+    @Value("${loadtest.seed.events:500}")
+    private int eventCount;
+
+    @Value("${loadtest.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${loadtest.admin.username:loadtest}")
+    private String adminUsername;
+
+    @Value("${loadtest.admin.password:loadtest123}")
+    private String adminPassword;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        Random random = new Random(randomSeed);
+        LocalDate today = LocalDate.now();
+
+        seedWhatsNew(random, today);
+        seedMessages(random, today);
+        seedEvents(random, today);
+        seedWords(today);
+        seedAdminUser();
+
+        logger.info("Load-test data seeded: {} WhatsNew items, {} messages, {} events, admin user '{}'",
+                whatsNewCount, messageCount, eventCount, adminUsername);
+    }
+
+    private void seedWhatsNew(Random random, LocalDate today) {
+        List<WhatsNew> items = new ArrayList<>(whatsNewCount);
+        for (int i = 0; i < whatsNewCount; i++) {
+            WhatsNew item = new WhatsNew("Announcement " + i,
+                    "Seeded announcement " + i + " for load testing.",
+                    today.minusDays(random.nextInt(60)));
+            item.setValidTo(random.nextInt(4) == 0 ? null : today.plusDays(random.nextInt(90) - 30));
+            item.setEnabled(random.nextInt(10) != 0);
+            item.setPriority(1 + random.nextInt(3));
+            item.setCreatedDate(item.getValidFrom());
+            items.add(item);
+        }
+
+        // Assign the same global sequence recalculateAllDisplayOrders() would produce
+        items.sort(Comparator.comparing(WhatsNew::getPriority).thenComparing(WhatsNew::getCreatedDate));
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setDisplayOrder(i + 1);
+        }
+        whatsNewRepository.saveAll(items);
+    }
+
+    private void seedMessages(Random random, LocalDate today) {
+        List<MessageBoard> messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            MessageBoard message = new MessageBoard("Notice " + i,
+                    "Seeded scrolling message " + i + " for load testing.",
+                    today.minusDays(random.nextInt(60)));
+            if (random.nextBoolean()) {
+                message.setHeaderHindi("सूचना " + i);
+                message.setMessageHindi("लोड परीक्षण संदेश " + i);
+            }
+            message.setValidTo(random.nextInt(4) == 0 ? null : today.plusDays(random.nextInt(90) - 30));
+            message.setEnabled(random.nextInt(10) != 0);
+            message.setPriority(1 + random.nextInt(3));
+            message.setCreatedBy("loadtest");
+            message.setCreatedDate(message.getValidFrom());
+            message.setDateTimeStamp(LocalDateTime.now());
+            messages.add(message);
+        }
+
+        messages.sort(Comparator.comparing(MessageBoard::getPriority).thenComparing(MessageBoard::getCreatedDate));
+        for (int i = 0; i < messages.size(); i++) {
+            messages.get(i).setDisplayOrder(i + 1);
+        }
+        messageBoardRepository.saveAll(messages);
+    }
+
+    private void seedEvents(Random random, LocalDate today) {
+        String[] categories = { "SAFETY", "TRAINING", "MEETING", "SOCIAL", "MAINTENANCE" };
+        List<CalendarEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            CalendarEvent event = new CalendarEvent("Event " + i, today.plusDays(random.nextInt(240) - 120),
+                    categories[random.nextInt(categories.length)]);
+            event.setDescription("Seeded calendar event " + i + " for load testing.");
+            event.setEventTime(random.nextInt(5) == 0 ? null : LocalTime.of(8 + random.nextInt(10), 30 * random.nextInt(2)));
+            event.setLocation("Block " + (1 + random.nextInt(12)));
+            event.setEnabled(random.nextInt(10) != 0);
+            events.add(event);
+        }
+        calendarEventRepository.saveAll(events);
+    }
+
+    private void seedWords(LocalDate today) {
+        String[][] hindi = { { "नमस्ते", "Hello", "namaste" }, { "सुरक्षा", "Safety", "suraksha" },
+                { "ऊर्जा", "Energy", "oorja" }, { "धन्यवाद", "Thank you", "dhanyavaad" } };
+        for (String[] entry : hindi) {
+            hindiWordRepository.save(new HindiWord(entry[0], entry[1], entry[2]));
+        }
+        String[][] telugu = { { "నమస్కారం", "Hello", "namaskaaram" }, { "భద్రత", "Safety", "bhadrata" },
+                { "శక్తి", "Energy", "shakti" } };
+        for (String[] entry : telugu) {
+            teluguWordRepository.save(new TeluguWord(entry[0], entry[1], entry[2]));
+        }
+        // One scheduled word, so today's Hindi word comes from DISPLAY_DATE rather than the rotation
+        HindiWord scheduled = new HindiWord("परिष्करणशाला", "Refinery", "parishkaranshaala");
+        scheduled.setDisplayDate(today);
+        hindiWordRepository.save(scheduled);
+    }
+
+    private void seedAdminUser() {
+        if (userRepository.existsByUsername(adminUsername)) {
+            return;
+        }
+        User admin = new User(adminUsername, adminUsername + "@loadtest.local", adminPassword, "Load Test Admin");
+        userService.registerUser(admin);
+    }
+}
@@ -0,0 +1,60 @@
+package com.refinery.portal.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures bcrypt verification cost on this machine so portal.security.bcrypt-strength can be
+ * chosen from numbers rather than guesses. Enable with --portal.security.bcrypt-benchmark=true;
+ * the results are logged once at startup as ms per login and logins/sec per core.
+ */
+@Component
+@ConditionalOnProperty(name = "portal.security.bcrypt-benchmark", havingValue = "true")
+public class PasswordHashBenchmark implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashBenchmark.class);
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long MEASURE_NANOS = 2_000_000_000L;
+
+    @Value("${portal.security.bcrypt-benchmark.min-strength:8}")
+    private int minStrength;
+
+    @Value("${portal.security.bcrypt-benchmark.max-strength:13}")
+    private int maxStrength;
+
+    @Value("${portal.security.bcrypt-strength:10}")
+    private int configuredStrength;
+
+    @Override
+    public void run(String... args) {
+        String password = "benchmark-password";
+        logger.info("bcrypt benchmark on {} cores (configured strength {})",
+                Runtime.getRuntime().availableProcessors(), configuredStrength);
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            String hash = encoder.encode(password);
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                encoder.matches(password, hash);
+            }
+            // Run for a fixed time budget, but always at least a few iterations at high strengths
+            int iterations = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                encoder.matches(password, hash);
+                iterations++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < MEASURE_NANOS || iterations < 3);
+            double msPerLogin = elapsed / 1_000_000.0 / iterations;
+            logger.info("bcrypt strength {}{}: {} ms/login, {} logins/sec per core",
+                    strength, strength == configuredStrength ? " (configured)" : "",
+                    String.format("%.1f", msPerLogin), String.format("%.1f", 1000.0 / msPerLogin));
+        }
+    }
+}
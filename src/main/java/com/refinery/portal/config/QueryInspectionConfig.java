@@ -0,0 +1,42 @@
+package com.refinery.portal.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.refinery.portal.monitoring.QueryCountingStatementInspector;
+import com.refinery.portal.monitoring.QueryStatisticsFilter;
+import com.refinery.portal.monitoring.QueryTimingSessionListener;
+
+/**
+ * Wires the per-request SQL statement counter into Hibernate and the servlet filter chain.
+ * Disable with portal.query-inspector.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portal.query-inspector.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryInspectionHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", new QueryCountingStatementInspector());
+            properties.put("hibernate.session.events.auto", QueryTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public QueryStatisticsFilter queryStatisticsFilter() {
+        return new QueryStatisticsFilter();
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatisticsFilter> queryStatisticsFilterRegistration(QueryStatisticsFilter filter) {
+        FilterRegistrationBean<QueryStatisticsFilter> registration = new FilterRegistrationBean<>(filter);
+        // Outermost, so statements issued by the security filters are counted as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
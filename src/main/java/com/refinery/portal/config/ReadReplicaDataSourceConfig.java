@@ -0,0 +1,74 @@
+package com.refinery.portal.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Routes read-only transactions to a MariaDB replica when portal.datasource.replica.url is set.
+ * Without that property Spring Boot's single auto-configured DataSource is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portal.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaDataSourceConfig.class);
+
+    enum Target { PRIMARY, REPLICA }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("portal.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        String url = environment.getRequiredProperty("portal.datasource.replica.url");
+        logger.info("Routing read-only transactions to replica {}", url);
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(environment.getProperty("portal.datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("portal.datasource.replica.password", properties.determinePassword()))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        TransactionRoutingDataSource routing = new TransactionRoutingDataSource();
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        // Defer the physical connection until the first statement, when the
+        // transaction's read-only flag is already bound to the thread
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    static class TransactionRoutingDataSource extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.REPLICA : Target.PRIMARY;
+        }
+    }
+}
@@ -1,29 +1,51 @@
 package com.refinery.portal.config;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
+import com.refinery.portal.service.PasswordRehashService;
 import com.refinery.portal.service.UserService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
     
+    // {bcrypt} at the configured strength; legacy unprefixed hashes still match and are upgraded after login
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${portal.security.bcrypt-strength:10}") int strength,
+                                           @Value("${portal.security.hash-concurrency:0}") int concurrency,
+                                           @Lazy PasswordRehashService passwordRehashService,
+                                           MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        int permits = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, permits, passwordRehashService::rehashLater, meterRegistry);
     }
     
     @Bean
@@ -32,7 +54,8 @@ public class SecurityConfig {
     }
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, @Lazy UserService userService) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, @Lazy UserService userService,
+                                           @Value("${portal.metrics.scrape-addresses:127.0.0.1/32,::1/128}") List<String> scrapeAddresses) throws Exception {
         http
             .authorizeHttpRequests(authz -> authz
                 // Public pages - accessible without authentication
@@ -42,14 +65,25 @@ public class SecurityConfig {
                 // What's New viewing is public, but management requires authentication
                 .requestMatchers("/whatsnew/list").permitAll()
                 .requestMatchers("/whatsnew/view/**").permitAll()
+                .requestMatchers("/whatsnew/api/datatable").permitAll()
                 // Message Board viewing is public, API endpoints are public
                 .requestMatchers("/messageboard/list").permitAll()
                 .requestMatchers("/messageboard/view/**").permitAll()
                 .requestMatchers("/messageboard/api/**").permitAll()
+                // Calendar views are public; event changes are checked with @PreAuthorize in EventController
+                .requestMatchers(HttpMethod.GET, "/events/api/**").permitAll()
+                // Every page listens for alerts; dismissing and alert changes are checked in AlertController
+                .requestMatchers(HttpMethod.GET, "/alerts/stream", "/alerts/api/active").permitAll()
+                // Archived (expired) content is as public as the live lists
+                .requestMatchers("/history", "/history/**").permitAll()
                 // Protected admin functions - require ADMIN role
                 .requestMatchers("/whatsnew/new", "/whatsnew/add", "/whatsnew/edit/**", "/whatsnew/delete/**").hasRole("ADMIN")
                 .requestMatchers("/messageboard/add", "/messageboard/edit/**", "/messageboard/delete/**", "/messageboard/save", "/messageboard/toggle/**", "/messageboard/bulk/**").hasRole("ADMIN")
                 .requestMatchers("/admin/**").hasRole("ADMIN")
+                // Health checks are open; Prometheus may be scraped from the allowed networks or by an admin
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").access(scrapeAccess(scrapeAddresses))
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Any other request requires authentication
                 .anyRequest().authenticated()
             )
@@ -81,6 +115,23 @@ public class SecurityConfig {
         return http.build();
     }
     
+    // Granted to requests from one of the scrape networks (CIDR) and to admins anywhere
+    private AuthorizationManager<RequestAuthorizationContext> scrapeAccess(List<String> addresses) {
+        List<IpAddressMatcher> networks = addresses.stream()
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+        return (authentication, context) -> {
+            String remoteAddress = context.getRequest().getRemoteAddr();
+            if (networks.stream().anyMatch(network -> network.matches(remoteAddress))) {
+                return new AuthorizationDecision(true);
+            }
+            return admin.check(authentication, context);
+        };
+    }
+
     @Bean
     public AuthenticationSuccessHandler authenticationSuccessHandler(@Lazy UserService userService) {
         return (request, response, authentication) -> {
@@ -0,0 +1,60 @@
+package com.refinery.portal.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import com.refinery.portal.monitoring.HitCountInterceptor;
+
+/**
+ * Static assets are served under content-hash URLs (app-&lt;md5&gt;.js) with one-year immutable
+ * caching. Thymeleaf's @{...} links are rewritten to the fingerprinted URL by the
+ * ResourceUrlEncodingFilter that Spring Boot registers when spring.web.resources.chain.enabled
+ * is set. Plain paths (hard-coded links, bookmarks) are served no-cache, so browsers revalidate
+ * them with Last-Modified instead of keeping an old copy for a year. Gzip copies produced at
+ * build time (see pom.xml) are served when the client accepts them.
+ * Page views of the public sections are counted by {@link HitCountInterceptor}.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final Duration STATIC_MAX_AGE = Duration.ofDays(365);
+
+    @Autowired
+    private HitCountInterceptor hitCountInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Ticker polling and DataTables calls are API traffic, not page views
+        registry.addInterceptor(hitCountInterceptor)
+                .addPathPatterns("/", "/whatsnew/**", "/messageboard/**")
+                .excludePathPatterns("/whatsnew/api/**", "/messageboard/api/**");
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String folder : new String[] { "css", "js", "images" }) {
+            // The folders are flat, so one path segment ending in -<md5>.<ext> is a fingerprinted URL
+            registerStaticFolder(registry, "/" + folder + "/{file:.+-[0-9a-f]{32}\\.\\w+}", folder,
+                    CacheControl.maxAge(STATIC_MAX_AGE).cachePublic().immutable());
+            registerStaticFolder(registry, "/" + folder + "/**", folder, CacheControl.noCache());
+        }
+    }
+
+    private void registerStaticFolder(ResourceHandlerRegistry registry, String pattern, String folder,
+                                      CacheControl cacheControl) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations("classpath:/static/" + folder + "/")
+                .setCacheControl(cacheControl)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
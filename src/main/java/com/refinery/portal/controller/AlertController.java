@@ -0,0 +1,109 @@
+package com.refinery.portal.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.refinery.portal.dto.AlertFeed;
+import com.refinery.portal.entity.ImportantAlert;
+import com.refinery.portal.entity.User;
+import com.refinery.portal.service.AlertService;
+
+import jakarta.validation.Valid;
+
+@Controller
+@RequestMapping("/alerts")
+public class AlertController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private AlertService alertService;
+
+    // Server-sent events: the viewer's feed now and again whenever alerts change
+    @GetMapping(value = "/stream", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal User user) {
+        SseEmitter emitter = alertService.subscribe(user != null ? user.getId() : null);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    // Current feed, for pages that cannot hold a stream open
+    @GetMapping("/api/active")
+    public ResponseEntity<AlertFeed> getActive(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(alertService.getFeedFor(user != null ? user.getId() : null));
+    }
+
+    // Stop showing a popup to the current user
+    @PostMapping("/api/{id}/dismiss")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> dismiss(@PathVariable Long id, @AuthenticationPrincipal User user) {
+        if (!alertService.dismiss(id, user.getId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // All alerts, newest first
+    @GetMapping("/api")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<ImportantAlert>> listAlerts(@RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(alertService.getAllAlerts(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    // Create an alert (JSON); open pages receive it once committed
+    @PostMapping("/api")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportantAlert> createAlert(@Valid @RequestBody ImportantAlert alert) {
+        alert.setId(null);
+        return ResponseEntity.ok(alertService.saveAlert(alert));
+    }
+
+    // Update an alert (JSON)
+    @PutMapping("/api/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportantAlert> updateAlert(@PathVariable Long id, @Valid @RequestBody ImportantAlert alert) {
+        return alertService.getAlertById(id)
+                .map(existing -> {
+                    alert.setId(id);
+                    alert.setCreatedDate(existing.getCreatedDate());
+                    return ResponseEntity.ok(alertService.saveAlert(alert));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/api/{id}/toggle")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportantAlert> toggleAlert(@PathVariable Long id) {
+        if (alertService.getAlertById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(alertService.toggleEnabled(id));
+    }
+
+    @DeleteMapping("/api/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteAlert(@PathVariable Long id) {
+        if (alertService.getAlertById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        alertService.deleteAlert(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.refinery.portal.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.refinery.portal.service.ArchiveService;
+
+@Controller
+public class ArchiveController {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    // History of expired announcements and messages, searchable and paged
+    @GetMapping("/history")
+    public String history(Model model,
+                          @RequestParam(defaultValue = "whatsnew") String type,
+                          @RequestParam(defaultValue = "0") int page,
+                          @RequestParam(defaultValue = "20") int size,
+                          @RequestParam(required = false) String search) {
+
+        Page<?> historyPage = "messageboard".equals(type)
+                ? archiveService.getMessageHistory(search, page, size)
+                : archiveService.getWhatsNewHistory(search, page, size);
+
+        model.addAttribute("type", "messageboard".equals(type) ? "messageboard" : "whatsnew");
+        model.addAttribute("historyPage", historyPage);
+        model.addAttribute("search", search);
+        model.addAttribute("currentPage", page);
+        model.addAttribute("pageSize", size);
+        model.addAttribute("retentionDays", archiveService.getRetentionDays());
+
+        return "history/list";
+    }
+
+    // Run the archive job now instead of waiting for the nightly schedule
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/archive/run")
+    public String runArchive(RedirectAttributes redirectAttributes) {
+        try {
+            ArchiveService.ArchiveResult result = archiveService.archiveExpired();
+            if (result == null) {
+                redirectAttributes.addFlashAttribute("error", "An archive run is already in progress.");
+            } else {
+                redirectAttributes.addFlashAttribute("success", "Archived " + result.getWhatsNewArchived() +
+                        " announcement(s) and " + result.getMessagesArchived() +
+                        " message(s) that expired before " + result.getCutoff() + ".");
+            }
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Error archiving expired content: " + e.getMessage());
+        }
+        return "redirect:/history";
+    }
+}
@@ -0,0 +1,46 @@
+package com.refinery.portal.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.refinery.portal.service.ContentExportService;
+
+@Controller
+@RequestMapping("/admin/export")
+@PreAuthorize("hasRole('ADMIN')")
+public class ContentExportController {
+
+    @Autowired
+    private ContentExportService contentExportService;
+
+    // Download every row of whatsnew or messageboard; format is csv (default) or ndjson
+    @GetMapping("/{type}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String type,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        if (!contentExportService.supports(type)) {
+            return ResponseEntity.notFound().build();
+        }
+        ContentExportService.Format exportFormat = ContentExportService.Format.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = type + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(out -> contentExportService.export(type, exportFormat, out));
+    }
+}
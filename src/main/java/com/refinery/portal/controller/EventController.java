@@ -0,0 +1,124 @@
+package com.refinery.portal.controller;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.refinery.portal.dto.CalendarEntry;
+import com.refinery.portal.dto.CalendarView;
+import com.refinery.portal.entity.CalendarEvent;
+import com.refinery.portal.service.EventService;
+
+import jakarta.validation.Valid;
+
+@Controller
+@RequestMapping("/events")
+public class EventController {
+
+    private static final int MAX_UPCOMING = 50;
+
+    @Autowired
+    private EventService eventService;
+
+    // Month grid (Monday-first whole weeks); defaults to the current month
+    @GetMapping("/api/month")
+    public ResponseEntity<CalendarView> getMonth(@RequestParam(required = false) Integer year,
+                                                 @RequestParam(required = false) Integer month,
+                                                 @RequestParam(required = false) String category) {
+        YearMonth current = YearMonth.now();
+        try {
+            YearMonth requested = YearMonth.of(year != null ? year : current.getYear(),
+                    month != null ? month : current.getMonthValue());
+            return ResponseEntity.ok(eventService.getMonthView(requested, category));
+        } catch (DateTimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Monday to Sunday week containing date; defaults to this week
+    @GetMapping("/api/week")
+    public ResponseEntity<CalendarView> getWeek(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(eventService.getWeekView(date != null ? date : LocalDate.now(), category));
+    }
+
+    // Inclusive date range, at most one year
+    @GetMapping("/api/range")
+    public ResponseEntity<CalendarView> getRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String category) {
+        try {
+            return ResponseEntity.ok(eventService.getRangeView(from, to, category));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Next events from today on
+    @GetMapping("/api/upcoming")
+    public ResponseEntity<List<CalendarEntry>> getUpcoming(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getUpcomingEvents(Math.max(1, Math.min(limit, MAX_UPCOMING))));
+    }
+
+    @GetMapping("/api/categories")
+    public ResponseEntity<List<String>> getCategories() {
+        return ResponseEntity.ok(eventService.getCategories());
+    }
+
+    // Create an event (JSON)
+    @PostMapping("/api")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CalendarEvent> createEvent(@Valid @RequestBody CalendarEvent event) {
+        event.setId(null);
+        return ResponseEntity.ok(eventService.saveEvent(event));
+    }
+
+    // Update an event (JSON)
+    @PutMapping("/api/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CalendarEvent> updateEvent(@PathVariable Long id, @Valid @RequestBody CalendarEvent event) {
+        return eventService.getEventById(id)
+                .map(existing -> {
+                    event.setId(id);
+                    event.setCreatedDate(existing.getCreatedDate());
+                    return ResponseEntity.ok(eventService.saveEvent(event));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/api/{id}/toggle")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CalendarEvent> toggleEvent(@PathVariable Long id) {
+        if (eventService.getEventById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(eventService.toggleEnabled(id));
+    }
+
+    @DeleteMapping("/api/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
+        if (eventService.getEventById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        eventService.deleteEvent(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.refinery.portal.controller;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.refinery.portal.repository.HitCountRepository;
+import com.refinery.portal.service.HitCounter;
+
+@Controller
+@RequestMapping("/admin/hits")
+@PreAuthorize("hasRole('ADMIN')")
+public class HitCountController {
+
+    @Autowired
+    private HitCountRepository hitCountRepository;
+
+    @Autowired
+    private HitCounter hitCounter;
+
+    // Daily hit totals per page for the last few days as JSON (up to the last flush)
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getHits(@RequestParam(defaultValue = "7") int days) {
+        LocalDate since = LocalDate.now().minusDays(Math.max(0, Math.min(days, 366)) - 1L);
+        List<Map<String, Object>> hits = hitCountRepository.findSince(since).stream()
+                .map(hit -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("date", hit.getHitDate());
+                    row.put("page", hit.getPageName());
+                    row.put("hits", hit.getHitCount());
+                    return row;
+                })
+                .toList();
+        return ResponseEntity.ok(hits);
+    }
+
+    // Write pending in-memory counts now instead of waiting for the next scheduled flush
+    @PostMapping("/flush")
+    public ResponseEntity<Void> flush() {
+        hitCounter.flush();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import com.refinery.portal.service.MessageBoardService;
+import com.refinery.portal.service.PortalSettings;
 import com.refinery.portal.service.WhatsNewService;
+import com.refinery.portal.service.WordOfTheDayService;
 
 @Controller
 public class HomeController {
@@ -17,6 +19,12 @@ public class HomeController {
     @Autowired
     private MessageBoardService messageBoardService;
 
+    @Autowired
+    private PortalSettings portalSettings;
+
+    @Autowired
+    private WordOfTheDayService wordOfTheDayService;
+
     @GetMapping("/")
     public String home(Model model) {
         // Add data for dashboard widgets
@@ -24,8 +32,11 @@ public class HomeController {
         model.addAttribute("activeItemCount", whatsNewService.getActiveWhatsNewCount());
         
         // Add message board data for dashboard
-        model.addAttribute("messageBoardItems", messageBoardService.getTopActiveMessages(5));
+        model.addAttribute("messageBoardItems", messageBoardService.getTopActiveMessages(portalSettings.getDashboardMessageLimit()));
         model.addAttribute("activeMessageCount", messageBoardService.countActiveMessages());
+
+        // Words of the day are precomputed at midnight; no query here
+        model.addAttribute("words", wordOfTheDayService.getToday());
         
         return "index";
     }
@@ -1,8 +1,10 @@
 package com.refinery.portal.controller;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -19,13 +23,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.refinery.portal.dto.DataTablesRequest;
+import com.refinery.portal.dto.DataTablesResponse;
+import com.refinery.portal.dto.MessageBoardRow;
+import com.refinery.portal.dto.ReorderRequest;
 import com.refinery.portal.entity.MessageBoard;
 import com.refinery.portal.service.MessageBoardService;
+import com.refinery.portal.service.TickerStore;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @Controller
@@ -35,6 +47,9 @@ public class MessageBoardController {
     @Autowired
     private MessageBoardService messageBoardService;
 
+    @Autowired
+    private TickerStore tickerStore;
+
     // List all messages with pagination and search
     @GetMapping("/list")
     public String listMessages(Model model,
@@ -197,15 +212,48 @@ public class MessageBoardController {
         }
     }
 
-    // API endpoint for scrolling messages
+    // API endpoint for scrolling messages, served from the pre-serialized ticker store.
+    // lang (en, hi, all) or Accept-Language selects a single-language payload; without either
+    // both languages are returned as before.
     @GetMapping("/api/scrolling")
-    public ResponseEntity<List<MessageBoard>> getScrollingMessages() {
-        try {
-            List<MessageBoard> scrollingMessages = messageBoardService.getMessagesForScrolling();
-            return ResponseEntity.ok(scrollingMessages);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+    public void getScrollingMessages(@RequestParam(required = false) String lang,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                     HttpServletResponse response) throws IOException {
+        TickerStore.Language language = TickerStore.resolveLanguage(lang, acceptLanguage);
+        boolean gzip = TickerStore.acceptsGzip(acceptEncoding);
+        writeTickerPayload(tickerStore.getActiveMessages(language, gzip), language, response);
+    }
+
+    // API endpoint for a single active scrolling message
+    @GetMapping("/api/scrolling/{id}")
+    public void getScrollingMessage(@PathVariable Long id,
+                                    @RequestParam(required = false) String lang,
+                                    @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                    HttpServletResponse response) throws IOException {
+        TickerStore.Language language = TickerStore.resolveLanguage(lang, acceptLanguage);
+        TickerStore.Payload payload = tickerStore.getMessage(id, language);
+        if (payload == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
+        writeTickerPayload(payload, language, response);
+    }
+
+    private void writeTickerPayload(TickerStore.Payload payload, TickerStore.Language language,
+                                    HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (language.getTag() != null) {
+            response.setHeader(HttpHeaders.CONTENT_LANGUAGE, language.getTag());
+        }
+        if (payload.isGzip()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(payload.getLength());
+        payload.writeTo(response.getOutputStream());
     }
 
     // API endpoint for all messages with pagination
@@ -233,6 +281,16 @@ public class MessageBoardController {
         }
     }
 
+    // DataTables server-side processing (draw/start/length/order/search)
+    @GetMapping("/api/datatable")
+    public ResponseEntity<DataTablesResponse<MessageBoardRow>> getDataTable(@RequestParam Map<String, String> params) {
+        try {
+            return ResponseEntity.ok(messageBoardService.getTablePage(DataTablesRequest.from(params)));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // API endpoint for search
     @GetMapping("/api/search")
     public ResponseEntity<List<MessageBoard>> searchMessages(
@@ -274,6 +332,69 @@ public class MessageBoardController {
         return "redirect:/messageboard/list";
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/enable")
+    public String bulkEnable(@RequestParam(required = false) List<Long> ids, RedirectAttributes redirectAttributes) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "No messages selected for this change!");
+            return "redirect:/messageboard/list";
+        }
+        try {
+            int updated = messageBoardService.enableMessages(ids);
+            redirectAttributes.addFlashAttribute("success", updated + " message(s) enabled successfully!");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Error enabling messages: " + e.getMessage());
+        }
+        return "redirect:/messageboard/list";
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/disable")
+    public String bulkDisable(@RequestParam(required = false) List<Long> ids, RedirectAttributes redirectAttributes) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "No messages selected for this change!");
+            return "redirect:/messageboard/list";
+        }
+        try {
+            int updated = messageBoardService.disableMessages(ids);
+            redirectAttributes.addFlashAttribute("success", updated + " message(s) disabled successfully!");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Error disabling messages: " + e.getMessage());
+        }
+        return "redirect:/messageboard/list";
+    }
+
+    // Toggle enabled status
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/toggle/{id}")
+    public String toggleEnabled(@PathVariable Long id,
+                                @RequestParam(defaultValue = "list") String returnTo,
+                                RedirectAttributes redirectAttributes) {
+        try {
+            String status = messageBoardService.toggleEnabled(id) ? "enabled" : "disabled";
+            redirectAttributes.addFlashAttribute("success", "Message " + status + " successfully!");
+
+            // Return to view page if requested, otherwise to list
+            if ("view".equals(returnTo)) {
+                return "redirect:/messageboard/view/" + id;
+            }
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Error updating message: " + e.getMessage());
+        }
+        return "redirect:/messageboard/list";
+    }
+
+    // Apply a drag-and-drop reorder: {"order": [ids...]} or {"moves": [{"id": 7, "position": 1}]}
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/api/reorder")
+    public ResponseEntity<Map<String, Integer>> reorder(@RequestBody ReorderRequest request) {
+        try {
+            return ResponseEntity.ok(Map.of("renumbered", messageBoardService.reorder(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/admin/recalculate-order")
     @PreAuthorize("hasRole('ADMIN')")
     public String recalculateDisplayOrder(RedirectAttributes redirectAttributes) {
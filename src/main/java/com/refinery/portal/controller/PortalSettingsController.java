@@ -0,0 +1,62 @@
+package com.refinery.portal.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.refinery.portal.entity.PortalInfo;
+import com.refinery.portal.service.PortalSettings;
+import com.refinery.portal.service.PortalSettingsService;
+
+@Controller
+@RequestMapping("/admin/settings")
+@PreAuthorize("hasRole('ADMIN')")
+public class PortalSettingsController {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    @Autowired
+    private PortalSettingsService portalSettingsService;
+
+    @Autowired
+    private PortalSettings portalSettings;
+
+    // All vrp_portal_info rows as JSON
+    @GetMapping
+    public ResponseEntity<List<PortalInfo>> listSettings() {
+        return ResponseEntity.ok(portalSettingsService.getAllSettings());
+    }
+
+    // The values currently in effect on this instance
+    @GetMapping("/effective")
+    public ResponseEntity<Map<String, String>> effectiveSettings() {
+        return ResponseEntity.ok(portalSettings.getAll());
+    }
+
+    // Set a value (request body is the raw value); applies on every page after commit
+    @PutMapping("/{key}")
+    public ResponseEntity<PortalInfo> saveValue(@PathVariable String key, @RequestBody String value) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(portalSettingsService.saveValue(key, value.strip()));
+    }
+
+    @PostMapping("/{key}/toggle")
+    public ResponseEntity<PortalInfo> toggleSetting(@PathVariable String key) {
+        if (portalSettingsService.getSetting(key).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(portalSettingsService.toggleEnabled(key));
+    }
+}
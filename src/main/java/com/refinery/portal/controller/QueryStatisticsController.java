@@ -0,0 +1,45 @@
+package com.refinery.portal.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.refinery.portal.monitoring.QueryStatistics;
+
+@Controller
+@RequestMapping("/admin/query-stats")
+@PreAuthorize("hasRole('ADMIN')")
+public class QueryStatisticsController {
+
+    @Autowired
+    private QueryStatistics queryStatistics;
+
+    // Statement counts, flagged requests and slowest SQL as JSON
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatistics(@RequestParam(defaultValue = "20") int limit) {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("requests", queryStatistics.getRequestCount());
+        statistics.put("statements", queryStatistics.getStatementCount());
+        statistics.put("statementThreshold", queryStatistics.getStatementThreshold());
+        statistics.put("repeatThreshold", queryStatistics.getRepeatThreshold());
+        statistics.put("flaggedRequests", queryStatistics.getFlaggedRequests());
+        statistics.put("slowestStatements", queryStatistics.getSlowestStatements(limit));
+        statistics.put("mostExecutedStatements", queryStatistics.getMostExecutedStatements(limit));
+        return ResponseEntity.ok(statistics);
+    }
+
+    // Clear collected statistics, e.g. before measuring a fix
+    @PostMapping("/reset")
+    public ResponseEntity<Void> resetStatistics() {
+        queryStatistics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.refinery.portal.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.refinery.portal.dto.VisitorReport;
+import com.refinery.portal.service.VisitorAnalytics;
+
+@Controller
+@RequestMapping("/admin/visitors")
+@PreAuthorize("hasRole('ADMIN')")
+public class VisitorAnalyticsController {
+
+    private static final int MAX_DAYS = 366;
+    private static final int TOP_REFERERS = 20;
+
+    @Autowired
+    private VisitorAnalytics visitorAnalytics;
+
+    // Dashboard with unique visitors, top pages and referers for the last N days
+    @GetMapping
+    public String dashboard(@RequestParam(defaultValue = "7") int days, Model model) {
+        int range = clampDays(days);
+        model.addAttribute("report", report(range));
+        model.addAttribute("days", range);
+        return "admin/visitors";
+    }
+
+    // Same report as JSON
+    @GetMapping("/api")
+    public ResponseEntity<VisitorReport> getReport(@RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(report(clampDays(days)));
+    }
+
+    private VisitorReport report(int days) {
+        LocalDate today = LocalDate.now();
+        return visitorAnalytics.getReport(today.minusDays(days - 1L), today, TOP_REFERERS);
+    }
+
+    private static int clampDays(int days) {
+        return Math.max(1, Math.min(days, MAX_DAYS));
+    }
+}
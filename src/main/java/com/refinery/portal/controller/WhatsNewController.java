@@ -2,11 +2,13 @@ package com.refinery.portal.controller;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -15,10 +17,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.refinery.portal.dto.DataTablesRequest;
+import com.refinery.portal.dto.DataTablesResponse;
+import com.refinery.portal.dto.ReorderRequest;
+import com.refinery.portal.dto.WhatsNewRow;
 import com.refinery.portal.entity.WhatsNew;
 import com.refinery.portal.service.WhatsNewService;
 
@@ -39,6 +46,16 @@ public class WhatsNewController {
         return "fragments/whatsnew-dashboard :: whatsnew-panel";
     }
 
+    // DataTables server-side processing (draw/start/length/order/search)
+    @GetMapping("/api/datatable")
+    public ResponseEntity<DataTablesResponse<WhatsNewRow>> getDataTable(@RequestParam Map<String, String> params) {
+        try {
+            return ResponseEntity.ok(whatsNewService.getTablePage(DataTablesRequest.from(params)));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // Full list page with pagination and filtering
     @GetMapping("/list")
     public String getWhatsNewList(
@@ -184,8 +201,7 @@ public class WhatsNewController {
                                @RequestParam(defaultValue = "list") String returnTo,
                                RedirectAttributes redirectAttributes) {
         try {
-            WhatsNew updatedItem = whatsNewService.toggleEnabled(id);
-            String status = updatedItem.getEnabled() ? "enabled" : "disabled";
+            String status = whatsNewService.toggleEnabled(id) ? "enabled" : "disabled";
             redirectAttributes.addFlashAttribute("success", "WhatsNew item " + status + " successfully!");
             
             // Return to view page if requested, otherwise to list
@@ -213,8 +229,8 @@ public class WhatsNewController {
     @PostMapping("/bulk-enable")
     public String bulkEnable(@RequestParam("ids") List<Long> ids, RedirectAttributes redirectAttributes) {
         try {
-            whatsNewService.enableMultiple(ids);
-            redirectAttributes.addFlashAttribute("success", "Selected items enabled successfully!");
+            int updated = whatsNewService.enableMultiple(ids);
+            redirectAttributes.addFlashAttribute("success", updated + " item(s) enabled successfully!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error enabling items: " + e.getMessage());
         }
@@ -224,14 +240,25 @@ public class WhatsNewController {
     @PostMapping("/bulk-disable")
     public String bulkDisable(@RequestParam("ids") List<Long> ids, RedirectAttributes redirectAttributes) {
         try {
-            whatsNewService.disableMultiple(ids);
-            redirectAttributes.addFlashAttribute("success", "Selected items disabled successfully!");
+            int updated = whatsNewService.disableMultiple(ids);
+            redirectAttributes.addFlashAttribute("success", updated + " item(s) disabled successfully!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error disabling items: " + e.getMessage());
         }
         return "redirect:/whatsnew/list";
     }
 
+    // Apply a drag-and-drop reorder: {"order": [ids...]} or {"moves": [{"id": 7, "position": 1}]}
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/api/reorder")
+    public ResponseEntity<Map<String, Integer>> reorder(@RequestBody ReorderRequest request) {
+        try {
+            return ResponseEntity.ok(Map.of("renumbered", whatsNewService.reorder(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/admin/recalculate-order")
     @PreAuthorize("hasRole('ADMIN')")
     public String recalculateDisplayOrder(RedirectAttributes redirectAttributes) {
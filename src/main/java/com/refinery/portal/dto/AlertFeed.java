@@ -0,0 +1,10 @@
+package com.refinery.portal.dto;
+
+import java.util.List;
+
+/**
+ * Alerts for one page: the active banners and the popups this viewer has not dismissed.
+ * personal is false for anonymous viewers, whose dismissals are only kept in the browser.
+ */
+public record AlertFeed(boolean personal, List<AlertPopup> alerts) {
+}
@@ -0,0 +1,7 @@
+package com.refinery.portal.dto;
+
+/**
+ * An active important alert as sent to portal pages; type is info, warning, error or success.
+ */
+public record AlertPopup(Long id, String title, String message, String type, int priority, boolean popup) {
+}
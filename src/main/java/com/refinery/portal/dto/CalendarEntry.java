@@ -0,0 +1,11 @@
+package com.refinery.portal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One enabled event as shown in the calendar views; eventTime is null for all-day events.
+ */
+public record CalendarEntry(Long id, String title, String description, LocalDate eventDate,
+                            LocalTime eventTime, String location, String category) {
+}
@@ -0,0 +1,14 @@
+package com.refinery.portal.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Consecutive calendar days from one query: a month grid (whole weeks, Monday first, with
+ * inPeriod false for the padding days of adjacent months), a week, or an arbitrary range.
+ */
+public record CalendarView(LocalDate from, LocalDate to, String category, int eventCount, List<Day> days) {
+
+    public record Day(LocalDate date, boolean inPeriod, List<CalendarEntry> events) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.refinery.portal.dto;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The parts of a DataTables server-side processing request the portal uses:
+ * draw, start, length, search[value] and the first order[] entry.
+ * The sort column is resolved against a whitelist by the caller.
+ */
+public class DataTablesRequest {
+
+    public static final int MAX_LENGTH = 500;
+
+    private final int draw;
+    private final int start;
+    private final int length;
+    private final String search;
+    private final String orderColumn;
+    private final boolean ascending;
+
+    private DataTablesRequest(int draw, int start, int length, String search, String orderColumn, boolean ascending) {
+        this.draw = draw;
+        this.start = start;
+        this.length = length;
+        this.search = search;
+        this.orderColumn = orderColumn;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Build from the raw request parameters. length=-1 ("All") and oversized pages are capped at MAX_LENGTH.
+     * The order column is reported by its columns[i][data] name, falling back to null.
+     */
+    public static DataTablesRequest from(Map<String, String> params) {
+        int draw = parseInt(params.get("draw"), 0);
+        int start = Math.max(0, parseInt(params.get("start"), 0));
+        int length = parseInt(params.get("length"), 10);
+        if (length <= 0 || length > MAX_LENGTH) {
+            length = MAX_LENGTH;
+        }
+
+        String search = params.get("search[value]");
+        if (search != null) {
+            search = search.trim();
+            if (search.isEmpty()) {
+                search = null;
+            }
+        }
+
+        String orderColumn = null;
+        String orderIndex = params.get("order[0][column]");
+        if (orderIndex != null) {
+            orderColumn = params.get("columns[" + orderIndex + "][data]");
+        }
+        boolean ascending = !"desc".equalsIgnoreCase(params.get("order[0][dir]"));
+
+        return new DataTablesRequest(draw, start, length, search, orderColumn, ascending);
+    }
+
+    // The requested window, starting exactly at start rather than at a page boundary
+    public Pageable toPageable(Sort sort) {
+        return new OffsetPageRequest(start, length, sort);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public int getDraw() { return draw; }
+    public int getStart() { return start; }
+    public int getLength() { return length; }
+    public String getSearch() { return search; }
+    public String getOrderColumn() { return orderColumn; }
+    public boolean isAscending() { return ascending; }
+}
@@ -0,0 +1,26 @@
+package com.refinery.portal.dto;
+
+import java.util.List;
+
+/**
+ * DataTables server-side processing response body.
+ */
+public class DataTablesResponse<T> {
+
+    private final int draw;
+    private final long recordsTotal;
+    private final long recordsFiltered;
+    private final List<T> data;
+
+    public DataTablesResponse(int draw, long recordsTotal, long recordsFiltered, List<T> data) {
+        this.draw = draw;
+        this.recordsTotal = recordsTotal;
+        this.recordsFiltered = recordsFiltered;
+        this.data = data;
+    }
+
+    public int getDraw() { return draw; }
+    public long getRecordsTotal() { return recordsTotal; }
+    public long getRecordsFiltered() { return recordsFiltered; }
+    public List<T> getData() { return data; }
+}
@@ -0,0 +1,11 @@
+package com.refinery.portal.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the Message Board management table; the message is cut to a preview in SQL.
+ */
+public record MessageBoardRow(Long id, String header, String messagePreview,
+                              LocalDate validFrom, LocalDate validTo, Boolean enabled,
+                              Integer priority, Integer displayOrder, String createdBy) {
+}
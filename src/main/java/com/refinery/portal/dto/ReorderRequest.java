@@ -0,0 +1,13 @@
+package com.refinery.portal.dto;
+
+import java.util.List;
+
+/**
+ * New display order for the What's New or Message Board list: either every id in its new
+ * order, or drag-and-drop moves applied one after another (position is 1-based).
+ */
+public record ReorderRequest(List<Long> order, List<Move> moves) {
+
+    public record Move(Long id, Integer position) {
+    }
+}
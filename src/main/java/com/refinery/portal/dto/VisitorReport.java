@@ -0,0 +1,21 @@
+package com.refinery.portal.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Unique visitors, top pages and top referers for an inclusive date range. Visitor counts
+ * are HyperLogLog estimates (about 1.6% error); referer counts are upper bounds.
+ */
+public record VisitorReport(LocalDate from, LocalDate to, long uniqueVisitors, long pageViews,
+                            List<PageStats> pages, List<DailyVisitors> days, List<RefererCount> referers) {
+
+    public record PageStats(String page, long uniqueVisitors, long pageViews) {
+    }
+
+    public record DailyVisitors(LocalDate date, long uniqueVisitors) {
+    }
+
+    public record RefererCount(String referer, long count) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.refinery.portal.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the What's New management table; description is cut to a preview in SQL.
+ */
+public record WhatsNewRow(Long id, String title, String descriptionPreview, String url,
+                          LocalDate validFrom, LocalDate validTo, Boolean enabled,
+                          Integer priority, Integer displayOrder) {
+}
@@ -0,0 +1,7 @@
+package com.refinery.portal.dto;
+
+/**
+ * A day's word for the home page; language is "hi" or "te".
+ */
+public record WordOfTheDay(String language, String word, String meaning, String pronunciation, String example) {
+}
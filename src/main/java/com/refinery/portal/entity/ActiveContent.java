@@ -0,0 +1,27 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Portal content that is shown only while enabled and inside its validity window; either
+ * end of the window is open when null. ActiveContentIndex serves these from memory.
+ */
+public interface ActiveContent {
+
+    Long getId();
+
+    Boolean getEnabled();
+
+    LocalDate getValidFrom();
+
+    LocalDate getValidTo();
+
+    Integer getPriority();
+
+    // Whether the item is shown on the given date
+    default boolean isActiveOn(LocalDate date) {
+        return Boolean.TRUE.equals(getEnabled())
+                && (getValidFrom() == null || !getValidFrom().isAfter(date))
+                && (getValidTo() == null || !getValidTo().isBefore(date));
+    }
+}
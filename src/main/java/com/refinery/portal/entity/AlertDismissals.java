@@ -0,0 +1,45 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Serialized RoaringBitmap of the user ids that dismissed one alert. Rows are merged and
+ * written by AlertDismissalStore with JDBC, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "vrp_imp_msg_dismissals")
+public class AlertDismissals {
+
+    @Id
+    @Column(name = "ALERT_ID")
+    private Long alertId;
+
+    @Lob
+    @Column(name = "USER_BITMAP", nullable = false)
+    private byte[] userBitmap;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDateTime modifiedDate;
+
+    // Getters
+    public Long getAlertId() {
+        return alertId;
+    }
+
+    public byte[] getUserBitmap() {
+        return userBitmap;
+    }
+
+    public LocalDateTime getModifiedDate() {
+        return modifiedDate;
+    }
+}
@@ -0,0 +1,172 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "vrp_events")
+public class CalendarEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be less than 200 characters")
+    @Column(name = "TITLE", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "DESCRIPTION", columnDefinition = "TEXT")
+    private String description;
+
+    @NotNull(message = "Event date is required")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    @Column(name = "EVENT_DATE", nullable = false)
+    private LocalDate eventDate;
+
+    @DateTimeFormat(pattern = "HH:mm")
+    @Column(name = "EVENT_TIME")
+    private LocalTime eventTime; // null for all-day events
+
+    @Size(max = 200, message = "Location must be less than 200 characters")
+    @Column(name = "LOCATION", length = 200)
+    private String location;
+
+    @Size(max = 50, message = "Category must be less than 50 characters")
+    @Column(name = "CATEGORY", length = 50)
+    private String category;
+
+    @NotNull(message = "Enabled status is required")
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled = true;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    // Constructors
+    public CalendarEvent() {
+        this.createdDate = LocalDate.now();
+        this.modifiedDate = LocalDate.now();
+    }
+
+    public CalendarEvent(String title, LocalDate eventDate, String category) {
+        this();
+        this.title = title;
+        this.eventDate = eventDate;
+        this.category = category;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public void setEventDate(LocalDate eventDate) {
+        this.eventDate = eventDate;
+    }
+
+    public LocalTime getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(LocalTime eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public void setModifiedDate(LocalDate modifiedDate) {
+        this.modifiedDate = modifiedDate;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.modifiedDate = LocalDate.now();
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarEvent{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", eventDate=" + eventDate +
+                ", category='" + category + '\'' +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "mrp_hindi_word")
+public class HindiWord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotBlank(message = "Hindi word is required")
+    @Size(max = 200, message = "Hindi word must be less than 200 characters")
+    @Column(name = "HINDI_WORD", nullable = false, length = 200)
+    private String word;
+
+    @NotBlank(message = "English meaning is required")
+    @Size(max = 500, message = "English meaning must be less than 500 characters")
+    @Column(name = "ENGLISH_MEANING", nullable = false, length = 500)
+    private String englishMeaning;
+
+    @Size(max = 200, message = "Pronunciation must be less than 200 characters")
+    @Column(name = "PRONUNCIATION", length = 200)
+    private String pronunciation;
+
+    @Column(name = "USAGE_EXAMPLE", columnDefinition = "TEXT")
+    private String usageExample;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    @Column(name = "DISPLAY_DATE")
+    private LocalDate displayDate; // null: shown in rotation on days nothing is scheduled
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled = true;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    // Constructors
+    public HindiWord() {
+        this.createdDate = LocalDate.now();
+        this.modifiedDate = LocalDate.now();
+    }
+
+    public HindiWord(String word, String englishMeaning, String pronunciation) {
+        this();
+        this.word = word;
+        this.englishMeaning = englishMeaning;
+        this.pronunciation = pronunciation;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public String getEnglishMeaning() {
+        return englishMeaning;
+    }
+
+    public void setEnglishMeaning(String englishMeaning) {
+        this.englishMeaning = englishMeaning;
+    }
+
+    public String getPronunciation() {
+        return pronunciation;
+    }
+
+    public void setPronunciation(String pronunciation) {
+        this.pronunciation = pronunciation;
+    }
+
+    public String getUsageExample() {
+        return usageExample;
+    }
+
+    public void setUsageExample(String usageExample) {
+        this.usageExample = usageExample;
+    }
+
+    public LocalDate getDisplayDate() {
+        return displayDate;
+    }
+
+    public void setDisplayDate(LocalDate displayDate) {
+        this.displayDate = displayDate;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public void setModifiedDate(LocalDate modifiedDate) {
+        this.modifiedDate = modifiedDate;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.modifiedDate = LocalDate.now();
+    }
+
+    @Override
+    public String toString() {
+        return "HindiWord{" +
+                "id=" + id +
+                ", word='" + word + '\'' +
+                ", displayDate=" + displayDate +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Daily page hit total. Rows are upserted in batches by HitCounter, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "hit_counters",
+       uniqueConstraints = @UniqueConstraint(name = "uk_page_date", columnNames = { "PAGE_NAME", "HIT_DATE" }))
+public class HitCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "PAGE_NAME", nullable = false, length = 100)
+    private String pageName;
+
+    @Column(name = "HIT_DATE", nullable = false)
+    private LocalDate hitDate;
+
+    @Column(name = "HIT_COUNT")
+    private Long hitCount;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public LocalDate getHitDate() {
+        return hitDate;
+    }
+
+    public Long getHitCount() {
+        return hitCount;
+    }
+}
@@ -0,0 +1,180 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "vrp_imp_msg")
+public class ImportantAlert implements ActiveContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be less than 200 characters")
+    @Column(name = "TITLE", nullable = false, length = 200)
+    private String title;
+
+    @NotBlank(message = "Message is required")
+    @Column(name = "MESSAGE", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Pattern(regexp = "info|warning|error|success", message = "Type must be info, warning, error or success")
+    @Column(name = "MSG_TYPE", length = 20)
+    private String msgType = "info";
+
+    @Column(name = "PRIORITY")
+    private Integer priority = 0; // Higher shows first
+
+    @Column(name = "SHOW_POPUP")
+    private Boolean showPopup = false;
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled = true;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    @Column(name = "VALIDFROM")
+    private LocalDate validFrom;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    @Column(name = "VALIDTO")
+    private LocalDate validTo;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    // Constructors
+    public ImportantAlert() {
+        this.createdDate = LocalDate.now();
+        this.modifiedDate = LocalDate.now();
+    }
+
+    public ImportantAlert(String title, String message, String msgType) {
+        this();
+        this.title = title;
+        this.message = message;
+        this.msgType = msgType;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getMsgType() {
+        return msgType;
+    }
+
+    public void setMsgType(String msgType) {
+        this.msgType = msgType;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public Boolean getShowPopup() {
+        return showPopup;
+    }
+
+    public void setShowPopup(Boolean showPopup) {
+        this.showPopup = showPopup;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public void setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public void setModifiedDate(LocalDate modifiedDate) {
+        this.modifiedDate = modifiedDate;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.modifiedDate = LocalDate.now();
+    }
+
+    @Override
+    public String toString() {
+        return "ImportantAlert{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", msgType='" + msgType + '\'' +
+                ", showPopup=" + showPopup +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
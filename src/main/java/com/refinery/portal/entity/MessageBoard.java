@@ -18,7 +18,7 @@ import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "vrp_scrollmsg")
-public class MessageBoard {
+public class MessageBoard implements ActiveContent {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,152 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Expired message moved out of vrp_scrollmsg by ArchiveService.
+ * Rows are written with INSERT ... SELECT, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "vrp_scrollmsg_archive")
+public class MessageBoardArchive {
+
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "MSG_HEADER", nullable = false, length = 200)
+    private String header;
+
+    @Column(name = "MESSAGE", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "MESSAGE_HINDI", columnDefinition = "TEXT")
+    private String messageHindi;
+
+    @Column(name = "MSG_HEADER_HINDI", length = 200)
+    private String headerHindi;
+
+    @Column(name = "VALIDFROM", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "VALIDTO")
+    private LocalDate validTo;
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled;
+
+    @Column(name = "PRIORITY")
+    private Integer priority;
+
+    @Column(name = "SPEED", length = 20)
+    private String speed;
+
+    @Column(name = "COLOR", length = 20)
+    private String color;
+
+    @Column(name = "BGCOLOR", length = 20)
+    private String backgroundColor;
+
+    @Column(name = "MSGBY", length = 50)
+    private String createdBy;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    @Column(name = "DTSTAMP")
+    private LocalDateTime dateTimeStamp;
+
+    @Column(name = "ARCHIVED_DATE", nullable = false)
+    private LocalDate archivedDate;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getMessageHindi() {
+        return messageHindi;
+    }
+
+    public String getHeaderHindi() {
+        return headerHindi;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public String getSpeed() {
+        return speed;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public LocalDateTime getDateTimeStamp() {
+        return dateTimeStamp;
+    }
+
+    public LocalDate getArchivedDate() {
+        return archivedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageBoardArchive{" +
+                "id=" + id +
+                ", header='" + header + '\'' +
+                ", validTo=" + validTo +
+                ", archivedDate=" + archivedDate +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "vrp_portal_info")
+public class PortalInfo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotBlank(message = "Key is required")
+    @Size(max = 100, message = "Key must be less than 100 characters")
+    @Column(name = "INFO_KEY", nullable = false, unique = true, length = 100)
+    private String infoKey;
+
+    @Column(name = "INFO_VALUE", columnDefinition = "TEXT")
+    private String infoValue;
+
+    @Size(max = 50, message = "Type must be less than 50 characters")
+    @Column(name = "INFO_TYPE", length = 50)
+    private String infoType; // STRING, NUMBER, BOOLEAN, EMAIL, PHONE
+
+    @Size(max = 50, message = "Category must be less than 50 characters")
+    @Column(name = "CATEGORY", length = 50)
+    private String category;
+
+    @Size(max = 500, message = "Description must be less than 500 characters")
+    @Column(name = "DESCRIPTION", length = 500)
+    private String description;
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled = true;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    // Constructors
+    public PortalInfo() {
+        this.createdDate = LocalDate.now();
+        this.modifiedDate = LocalDate.now();
+    }
+
+    public PortalInfo(String infoKey, String infoValue, String infoType, String category, String description) {
+        this();
+        this.infoKey = infoKey;
+        this.infoValue = infoValue;
+        this.infoType = infoType;
+        this.category = category;
+        this.description = description;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getInfoKey() {
+        return infoKey;
+    }
+
+    public void setInfoKey(String infoKey) {
+        this.infoKey = infoKey;
+    }
+
+    public String getInfoValue() {
+        return infoValue;
+    }
+
+    public void setInfoValue(String infoValue) {
+        this.infoValue = infoValue;
+    }
+
+    public String getInfoType() {
+        return infoType;
+    }
+
+    public void setInfoType(String infoType) {
+        this.infoType = infoType;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public void setModifiedDate(LocalDate modifiedDate) {
+        this.modifiedDate = modifiedDate;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.modifiedDate = LocalDate.now();
+    }
+
+    @Override
+    public String toString() {
+        return "PortalInfo{" +
+                "id=" + id +
+                ", infoKey='" + infoKey + '\'' +
+                ", infoType='" + infoType + '\'' +
+                ", category='" + category + '\'' +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "pinfo_mtype")
+public class PortalMessageType {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotBlank(message = "Type code is required")
+    @Size(max = 20, message = "Type code must be less than 20 characters")
+    @Column(name = "TYPE_CODE", nullable = false, unique = true, length = 20)
+    private String typeCode;
+
+    @NotBlank(message = "Type name is required")
+    @Size(max = 100, message = "Type name must be less than 100 characters")
+    @Column(name = "TYPE_NAME", nullable = false, length = 100)
+    private String typeName;
+
+    @Size(max = 500, message = "Description must be less than 500 characters")
+    @Column(name = "DESCRIPTION", length = 500)
+    private String description;
+
+    @Column(name = "ICON_CLASS", length = 50)
+    private String iconClass; // e.g. bi-info-circle
+
+    @Column(name = "COLOR_CLASS", length = 50)
+    private String colorClass; // e.g. text-info
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled = true;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    // Constructors
+    public PortalMessageType() {
+        this.createdDate = LocalDate.now();
+    }
+
+    public PortalMessageType(String typeCode, String typeName, String iconClass, String colorClass) {
+        this();
+        this.typeCode = typeCode;
+        this.typeName = typeName;
+        this.iconClass = iconClass;
+        this.colorClass = colorClass;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTypeCode() {
+        return typeCode;
+    }
+
+    public void setTypeCode(String typeCode) {
+        this.typeCode = typeCode;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getIconClass() {
+        return iconClass;
+    }
+
+    public void setIconClass(String iconClass) {
+        this.iconClass = iconClass;
+    }
+
+    public String getColorClass() {
+        return colorClass;
+    }
+
+    public void setColorClass(String colorClass) {
+        this.colorClass = colorClass;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDate createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "PortalMessageType{" +
+                "id=" + id +
+                ", typeCode='" + typeCode + '\'' +
+                ", typeName='" + typeName + '\'' +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
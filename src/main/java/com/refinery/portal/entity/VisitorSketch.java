@@ -0,0 +1,73 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Serialized visitor sketch for one page and day. Rows are merged and written by
+ * VisitorAnalytics with JDBC, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "visitor_sketches",
+       uniqueConstraints = @UniqueConstraint(name = "uk_sketch_page_date",
+                                             columnNames = { "SKETCH_TYPE", "PAGE_NAME", "SKETCH_DATE" }))
+public class VisitorSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "SKETCH_TYPE", nullable = false, length = 20)
+    private String sketchType;
+
+    @Column(name = "PAGE_NAME", nullable = false, length = 100)
+    private String pageName;
+
+    @Column(name = "SKETCH_DATE", nullable = false)
+    private LocalDate sketchDate;
+
+    @Lob
+    @Column(name = "DATA", nullable = false)
+    private byte[] data;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDateTime modifiedDate;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getSketchType() {
+        return sketchType;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public LocalDate getSketchDate() {
+        return sketchDate;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public LocalDateTime getModifiedDate() {
+        return modifiedDate;
+    }
+}
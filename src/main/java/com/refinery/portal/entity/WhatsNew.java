@@ -17,7 +17,7 @@ import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "vrp_whatsnew")
-public class WhatsNew {
+public class WhatsNew implements ActiveContent {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,109 @@
+package com.refinery.portal.entity;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Expired announcement moved out of vrp_whatsnew by ArchiveService.
+ * Rows are written with INSERT ... SELECT, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "vrp_whatsnew_archive")
+public class WhatsNewArchive {
+
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "TITLE", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "DESCRIPTION", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "URL", length = 500)
+    private String url;
+
+    @Column(name = "VALIDFROM", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "VALIDTO")
+    private LocalDate validTo;
+
+    @Column(name = "ENABLED", nullable = false)
+    private Boolean enabled;
+
+    @Column(name = "PRIORITY")
+    private Integer priority;
+
+    @Column(name = "CREATED_DATE")
+    private LocalDate createdDate;
+
+    @Column(name = "MODIFIED_DATE")
+    private LocalDate modifiedDate;
+
+    @Column(name = "ARCHIVED_DATE", nullable = false)
+    private LocalDate archivedDate;
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDate getModifiedDate() {
+        return modifiedDate;
+    }
+
+    public LocalDate getArchivedDate() {
+        return archivedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "WhatsNewArchive{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", validTo=" + validTo +
+                ", archivedDate=" + archivedDate +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.refinery.portal.event;
+
+/**
+ * Published whenever What's New, Message Board, calendar event, important alert or portal setting rows are
+ * written, so in-memory views of the content can be invalidated. Listeners use @TransactionalEventListener
+ * and therefore only see changes that actually committed.
+ */
+public class ContentChangedEvent {
+
+    public enum ContentType { WHATSNEW, MESSAGEBOARD, EVENTS, ALERTS, SETTINGS }
+
+    private final ContentType contentType;
+
+    public ContentChangedEvent(ContentType contentType) {
+        this.contentType = contentType;
+    }
+
+    public ContentType getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String toString() {
+        return "ContentChangedEvent{contentType=" + contentType + '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.refinery.portal.monitoring;
+
+import java.net.URI;
+import java.security.Principal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.refinery.portal.service.HitCounter;
+import com.refinery.portal.service.VisitorAnalytics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records a page hit and the visitor for each successful GET of a portal page. Item URLs
+ * such as /whatsnew/view/42 are counted under their section and action (/whatsnew/view),
+ * which keeps the number of page names bounded. Visitors are the signed-in user, or the
+ * client address plus User-Agent; only hashes of these reach the visitor sketches.
+ */
+@Component
+public class HitCountInterceptor implements HandlerInterceptor {
+
+    private static final int MAX_REFERER_LENGTH = 200;
+
+    @Autowired
+    private HitCounter hitCounter;
+
+    @Autowired
+    private VisitorAnalytics visitorAnalytics;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (ex == null && "GET".equals(request.getMethod()) && response.getStatus() < 400) {
+            String page = pageName(request.getRequestURI().substring(request.getContextPath().length()));
+            hitCounter.record(page);
+            visitorAnalytics.record(page, visitorId(request), externalReferer(request));
+        }
+    }
+
+    private static String visitorId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        return request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
+
+    // Referer without query string, or null when missing, unparseable or from this site
+    static String externalReferer(HttpServletRequest request) {
+        String referer = request.getHeader("Referer");
+        if (referer == null || referer.isBlank()) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(referer.strip());
+            if (uri.getHost() == null || uri.getHost().equalsIgnoreCase(request.getServerName())) {
+                return null;
+            }
+            String value = uri.getHost() + (uri.getRawPath() == null ? "" : uri.getRawPath());
+            return value.length() > MAX_REFERER_LENGTH ? value.substring(0, MAX_REFERER_LENGTH) : value;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String pageName(String path) {
+        if (path.isEmpty() || "/".equals(path)) {
+            return "/";
+        }
+        int second = path.indexOf('/', 1);
+        int third = second < 0 ? -1 : path.indexOf('/', second + 1);
+        String page = third < 0 ? path : path.substring(0, third);
+        return page.length() > 100 ? page.substring(0, 100) : page;
+    }
+}
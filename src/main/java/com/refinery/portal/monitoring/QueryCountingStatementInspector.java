@@ -0,0 +1,19 @@
+package com.refinery.portal.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every prepared SQL statement
+ * against the current request. The SQL itself is returned unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.onStatementPrepared(sql);
+        }
+        return sql;
+    }
+}
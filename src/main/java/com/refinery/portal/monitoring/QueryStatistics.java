@@ -0,0 +1,200 @@
+package com.refinery.portal.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Aggregates per-request SQL statistics: statement counts per request, requests that
+ * exceed the statement or repeat thresholds (write amplification / N+1), and the
+ * slowest statements seen since startup or the last reset.
+ */
+@Component
+public class QueryStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatistics.class);
+
+    private static final int MAX_FLAGGED_REQUESTS = 100;
+    private static final int MAX_TRACKED_STATEMENTS = 500;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${portal.query-inspector.statement-threshold:50}")
+    private int statementThreshold;
+
+    @Value("${portal.query-inspector.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Value("${portal.query-inspector.slow-query-ms:200}")
+    private long slowQueryMillis;
+
+    private final Deque<FlaggedRequest> flaggedRequests = new ArrayDeque<>();
+    private final Map<String, SqlStats> sqlStats = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder statementCount = new LongAdder();
+
+    /**
+     * Fold a finished request into the global statistics
+     */
+    public void record(String method, String uri, RequestQueryContext context, long elapsedNanos) {
+        int statements = context.getStatementCount();
+        requestCount.increment();
+        statementCount.add(statements);
+        meterRegistry.summary("portal.request.statements").record(statements);
+
+        for (Map.Entry<String, RequestQueryContext.StatementTiming> entry : context.getStatements().entrySet()) {
+            SqlStats stats = sqlStats.get(entry.getKey());
+            if (stats == null) {
+                if (sqlStats.size() >= MAX_TRACKED_STATEMENTS) {
+                    continue;
+                }
+                stats = sqlStats.computeIfAbsent(entry.getKey(), SqlStats::new);
+            }
+            stats.add(entry.getValue());
+
+            long maxMillis = TimeUnit.NANOSECONDS.toMillis(entry.getValue().getMaxNanos());
+            if (maxMillis >= slowQueryMillis) {
+                logger.warn("Slow SQL ({} ms) during {} {}: {}", maxMillis, method, uri, entry.getKey());
+            }
+        }
+
+        Map.Entry<String, RequestQueryContext.StatementTiming> mostRepeated = context.getMostRepeatedStatement();
+        int repeats = mostRepeated != null ? mostRepeated.getValue().getCount() : 0;
+        if (statements > statementThreshold || repeats > repeatThreshold) {
+            FlaggedRequest flagged = new FlaggedRequest(LocalDateTime.now(), method, uri, statements,
+                    TimeUnit.NANOSECONDS.toMillis(context.getTotalSqlNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    mostRepeated != null ? mostRepeated.getKey() : null, repeats);
+            synchronized (flaggedRequests) {
+                if (flaggedRequests.size() == MAX_FLAGGED_REQUESTS) {
+                    flaggedRequests.removeLast();
+                }
+                flaggedRequests.addFirst(flagged);
+            }
+            meterRegistry.counter("portal.request.statements.flagged").increment();
+            logger.warn("{} {} issued {} SQL statements ({} ms in SQL); most repeated x{}: {}",
+                    method, uri, statements, flagged.getSqlMillis(), repeats, flagged.getMostRepeatedSql());
+        }
+    }
+
+    public List<FlaggedRequest> getFlaggedRequests() {
+        synchronized (flaggedRequests) {
+            return new ArrayList<>(flaggedRequests);
+        }
+    }
+
+    public List<SqlStats> getSlowestStatements(int limit) {
+        return sqlStats.values().stream()
+                .sorted(Comparator.comparingLong(SqlStats::getMaxNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<SqlStats> getMostExecutedStatements(int limit) {
+        return sqlStats.values().stream()
+                .sorted(Comparator.comparingLong(SqlStats::getCount).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public int getStatementThreshold() {
+        return statementThreshold;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void reset() {
+        synchronized (flaggedRequests) {
+            flaggedRequests.clear();
+        }
+        sqlStats.clear();
+        requestCount.reset();
+        statementCount.reset();
+    }
+
+    public static class FlaggedRequest {
+        private final LocalDateTime timestamp;
+        private final String method;
+        private final String uri;
+        private final int statements;
+        private final long sqlMillis;
+        private final long elapsedMillis;
+        private final String mostRepeatedSql;
+        private final int mostRepeatedCount;
+
+        FlaggedRequest(LocalDateTime timestamp, String method, String uri, int statements, long sqlMillis,
+                       long elapsedMillis, String mostRepeatedSql, int mostRepeatedCount) {
+            this.timestamp = timestamp;
+            this.method = method;
+            this.uri = uri;
+            this.statements = statements;
+            this.sqlMillis = sqlMillis;
+            this.elapsedMillis = elapsedMillis;
+            this.mostRepeatedSql = mostRepeatedSql;
+            this.mostRepeatedCount = mostRepeatedCount;
+        }
+
+        public LocalDateTime getTimestamp() { return timestamp; }
+        public String getMethod() { return method; }
+        public String getUri() { return uri; }
+        public int getStatements() { return statements; }
+        public long getSqlMillis() { return sqlMillis; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public String getMostRepeatedSql() { return mostRepeatedSql; }
+        public int getMostRepeatedCount() { return mostRepeatedCount; }
+    }
+
+    public static class SqlStats {
+        private final String sql;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        SqlStats(String sql) {
+            this.sql = sql;
+        }
+
+        void add(RequestQueryContext.StatementTiming timing) {
+            count.add(timing.getCount());
+            totalNanos.add(timing.getTotalNanos());
+            maxNanos.accumulate(timing.getMaxNanos());
+        }
+
+        public String getSql() { return sql; }
+        public long getCount() { return count.sum(); }
+        public long getMaxNanos() { return maxNanos.get(); }
+        public double getMaxMillis() { return maxNanos.get() / 1_000_000.0; }
+        public double getTotalMillis() { return totalNanos.sum() / 1_000_000.0; }
+        public double getAverageMillis() {
+            long executions = count.sum();
+            return executions == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / executions;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.refinery.portal.monitoring;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens a {@link RequestQueryContext} for each request and hands it to
+ * {@link QueryStatistics} when the request completes.
+ */
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private QueryStatistics queryStatistics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryContext context = RequestQueryContext.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryContext.end();
+            queryStatistics.record(request.getMethod(), request.getRequestURI(), context, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/images/")
+                || uri.startsWith("/actuator/");
+    }
+}
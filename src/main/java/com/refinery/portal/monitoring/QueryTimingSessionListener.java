@@ -0,0 +1,37 @@
+package com.refinery.portal.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC executions and attributes them to the statement last seen by
+ * {@link QueryCountingStatementInspector}. Hibernate instantiates this class
+ * for every session (hibernate.session.events.auto), so it keeps no state of its own.
+ */
+public class QueryTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.onExecuteStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.onExecuteEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
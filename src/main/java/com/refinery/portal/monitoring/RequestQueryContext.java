@@ -0,0 +1,93 @@
+package com.refinery.portal.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread record of the SQL statements issued while handling one HTTP request.
+ * Populated by {@link QueryCountingStatementInspector} and {@link QueryTimingSessionListener},
+ * opened and closed by {@link QueryStatisticsFilter}.
+ */
+public class RequestQueryContext {
+
+    private static final ThreadLocal<RequestQueryContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, StatementTiming> statements = new HashMap<>();
+    private int statementCount;
+    private long totalSqlNanos;
+    private String lastSql;
+    private long executeStartNanos;
+
+    public static RequestQueryContext begin() {
+        RequestQueryContext context = new RequestQueryContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static RequestQueryContext current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void onStatementPrepared(String sql) {
+        lastSql = sql;
+        statementCount++;
+        statements.computeIfAbsent(sql, key -> new StatementTiming()).count++;
+    }
+
+    void onExecuteStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    void onExecuteEnd() {
+        if (executeStartNanos == 0 || lastSql == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executeStartNanos;
+        executeStartNanos = 0;
+        totalSqlNanos += elapsed;
+        StatementTiming timing = statements.get(lastSql);
+        if (timing != null) {
+            timing.totalNanos += elapsed;
+            timing.maxNanos = Math.max(timing.maxNanos, elapsed);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalSqlNanos() {
+        return totalSqlNanos;
+    }
+
+    public Map<String, StatementTiming> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Most frequently repeated statement in this request; a high count is the N+1 signature
+     */
+    public Map.Entry<String, StatementTiming> getMostRepeatedStatement() {
+        Map.Entry<String, StatementTiming> most = null;
+        for (Map.Entry<String, StatementTiming> entry : statements.entrySet()) {
+            if (most == null || entry.getValue().count > most.getValue().count) {
+                most = entry;
+            }
+        }
+        return most;
+    }
+
+    public static class StatementTiming {
+        int count;
+        long totalNanos;
+        long maxNanos;
+
+        public int getCount() { return count; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.refinery.portal.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.dto.CalendarEntry;
+import com.refinery.portal.entity.CalendarEvent;
+
+@Repository
+public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Long> {
+
+    // Every enabled event as a calendar entry, for loading EventCalendarIndex
+    @Query("SELECT new com.refinery.portal.dto.CalendarEntry(e.id, e.title, e.description, e.eventDate, " +
+           "e.eventTime, e.location, e.category) FROM CalendarEvent e WHERE e.enabled = true")
+    List<CalendarEntry> findCalendarEntries();
+
+    // All events for management, newest date first
+    @Query("SELECT e FROM CalendarEvent e ORDER BY e.eventDate DESC, e.id DESC")
+    Page<CalendarEvent> findAllForManagement(Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.refinery.portal.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.HitCount;
+
+@Repository
+public interface HitCountRepository extends JpaRepository<HitCount, Long> {
+
+    // Daily totals since the given date, newest day first
+    @Query("SELECT h FROM HitCount h WHERE h.hitDate >= :since ORDER BY h.hitDate DESC, h.hitCount DESC")
+    List<HitCount> findSince(@Param("since") LocalDate since);
+
+    // Total hits per page for the inclusive date range as [pageName, hits]
+    @Query("SELECT h.pageName, SUM(h.hitCount) FROM HitCount h WHERE h.hitDate BETWEEN :from AND :to GROUP BY h.pageName")
+    List<Object[]> sumByPage(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
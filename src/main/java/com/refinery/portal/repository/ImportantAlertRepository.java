@@ -0,0 +1,26 @@
+package com.refinery.portal.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.ImportantAlert;
+
+@Repository
+public interface ImportantAlertRepository extends JpaRepository<ImportantAlert, Long> {
+
+    // Enabled alerts not yet expired (future ones included), for ActiveAlertIndex
+    @Query("SELECT a FROM ImportantAlert a WHERE a.enabled = true " +
+           "AND (a.validTo IS NULL OR a.validTo >= :today)")
+    List<ImportantAlert> findActiveCandidates(@Param("today") LocalDate today);
+
+    // All alerts for management, newest first
+    @Query("SELECT a FROM ImportantAlert a ORDER BY a.id DESC")
+    Page<ImportantAlert> findAllForManagement(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.refinery.portal.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.MessageBoardArchive;
+
+@Repository
+public interface MessageBoardArchiveRepository extends JpaRepository<MessageBoardArchive, Long> {
+
+    // Archived messages, most recently expired first
+    @Query("SELECT m FROM MessageBoardArchive m ORDER BY m.validTo DESC, m.id DESC")
+    Page<MessageBoardArchive> findAllForHistory(Pageable pageable);
+
+    // Search archived messages by header or message
+    @Query("SELECT m FROM MessageBoardArchive m WHERE " +
+           "LOWER(m.header) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(m.message) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "ORDER BY m.validTo DESC, m.id DESC")
+    Page<MessageBoardArchive> searchForHistory(@Param("searchTerm") String searchTerm, Pageable pageable);
+}
@@ -1,6 +1,7 @@
 package com.refinery.portal.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -11,24 +12,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.refinery.portal.dto.MessageBoardRow;
 import com.refinery.portal.entity.MessageBoard;
 
 @Repository
 public interface MessageBoardRepository extends JpaRepository<MessageBoard, Long> {
 
-    // Find all enabled messages, ordered by global display order
+    // Enabled messages not yet expired (future ones included), for ActiveMessageIndex
     @Query("SELECT m FROM MessageBoard m WHERE m.enabled = true AND " +
-           "(m.validTo IS NULL OR m.validTo >= CURRENT_DATE) AND " +
-           "m.validFrom <= CURRENT_DATE " +
+           "(m.validTo IS NULL OR m.validTo >= :today) " +
            "ORDER BY m.displayOrder ASC")
-    List<MessageBoard> findActiveMessages();
-
-    // Find top N enabled messages for display
-    @Query("SELECT m FROM MessageBoard m WHERE m.enabled = true AND " +
-           "(m.validTo IS NULL OR m.validTo >= CURRENT_DATE) AND " +
-           "m.validFrom <= CURRENT_DATE " +
-           "ORDER BY m.displayOrder ASC")
-    Page<MessageBoard> findActiveMessagesForDisplay(Pageable pageable);
+    List<MessageBoard> findActiveCandidates(@Param("today") LocalDate today);
 
     // Find by enabled status with pagination
     @Query("SELECT m FROM MessageBoard m WHERE m.enabled = :enabled " +
@@ -98,17 +92,14 @@ public interface MessageBoardRepository extends JpaRepository<MessageBoard, Long
            "ORDER BY m.validFrom DESC")
     List<MessageBoard> findByHeaderOrMessageContainingIgnoreCase(@Param("searchTerm") String searchTerm);
 
-    // Count active messages
-    @Query("SELECT COUNT(m) FROM MessageBoard m WHERE m.enabled = true AND " +
-           "(m.validTo IS NULL OR m.validTo >= CURRENT_DATE) AND " +
-           "m.validFrom <= CURRENT_DATE")
-    long countActiveMessages();
-
     // Count messages by enabled status
     long countByEnabledTrue();
     
     long countByEnabledFalse();
 
+    // Rows never given a display order
+    long countByDisplayOrderIsNull();
+
     // Find by priority and get max display order
     @Query("SELECT COALESCE(MAX(m.displayOrder), 0) FROM MessageBoard m WHERE m.priority = :priority")
     Integer findMaxDisplayOrderByPriority(@Param("priority") Integer priority);
@@ -118,6 +109,10 @@ public interface MessageBoardRepository extends JpaRepository<MessageBoard, Long
            "ORDER BY m.displayOrder ASC")
     List<MessageBoard> findByPriorityOrderByDisplayOrder(@Param("priority") Integer priority);
 
+    // Id, priority and display order of every message, for merging an import into the sequence
+    @Query("SELECT m.id, m.priority, m.displayOrder FROM MessageBoard m")
+    List<Object[]> findDisplayOrderKeys();
+
     // Find messages with priority greater than or equal to specified priority
     @Query("SELECT m FROM MessageBoard m WHERE m.priority >= :priority " +
            "ORDER BY m.priority ASC, m.displayOrder ASC")
@@ -129,16 +124,41 @@ public interface MessageBoardRepository extends JpaRepository<MessageBoard, Long
            "WHERE m.priority = :priority AND m.displayOrder >= :fromOrder")
     void incrementDisplayOrderFromPosition(@Param("priority") Integer priority, @Param("fromOrder") Integer fromOrder);
 
+    // Set the enabled flag of many rows in one statement; returns the rows matched
+    @Modifying
+    @Query("UPDATE MessageBoard m SET m.enabled = :enabled, m.modifiedDate = :modifiedDate WHERE m.id IN :ids")
+    int updateEnabled(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled,
+                      @Param("modifiedDate") LocalDate modifiedDate);
+
+    // Flip the enabled flag of one row without loading it
+    @Modifying
+    @Query("UPDATE MessageBoard m SET m.enabled = CASE WHEN m.enabled = true THEN false ELSE true END, " +
+           "m.modifiedDate = :modifiedDate WHERE m.id = :id")
+    int toggleEnabled(@Param("id") Long id, @Param("modifiedDate") LocalDate modifiedDate);
+
+    @Query("SELECT m.enabled FROM MessageBoard m WHERE m.id = :id")
+    Boolean findEnabledById(@Param("id") Long id);
+
     // Shift all messages with higher priority down by incrementing their priority
     @Modifying
     @Query("UPDATE MessageBoard m SET m.priority = m.priority + 1 " +
            "WHERE m.priority >= :fromPriority")
     void shiftPrioritiesDown(@Param("fromPriority") Integer fromPriority);
 
-    // Find messages for scrolling display (active, ordered by display order)
-    @Query("SELECT m FROM MessageBoard m WHERE m.enabled = true AND " +
-           "(m.validTo IS NULL OR m.validTo >= CURRENT_DATE) AND " +
-           "m.validFrom <= CURRENT_DATE " +
-           "ORDER BY m.displayOrder ASC")
-    List<MessageBoard> findMessagesForScrolling();
+    // Management table rows (DataTables); sort comes from the Pageable
+    @Query("SELECT new com.refinery.portal.dto.MessageBoardRow(m.id, m.header, SUBSTRING(m.message, 1, 200), " +
+           "m.validFrom, m.validTo, m.enabled, m.priority, m.displayOrder, m.createdBy) FROM MessageBoard m")
+    List<MessageBoardRow> findTableRows(Pageable pageable);
+
+    // Management table rows matching a search on header or message
+    @Query("SELECT new com.refinery.portal.dto.MessageBoardRow(m.id, m.header, SUBSTRING(m.message, 1, 200), " +
+           "m.validFrom, m.validTo, m.enabled, m.priority, m.displayOrder, m.createdBy) FROM MessageBoard m WHERE " +
+           "LOWER(m.header) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(m.message) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    List<MessageBoardRow> searchTableRows(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT COUNT(m) FROM MessageBoard m WHERE " +
+           "LOWER(m.header) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(m.message) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    long countTableRows(@Param("searchTerm") String searchTerm);
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.refinery.portal.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.PortalInfo;
+
+@Repository
+public interface PortalInfoRepository extends JpaRepository<PortalInfo, Long> {
+
+    Optional<PortalInfo> findByInfoKey(String infoKey);
+
+    // All settings for management, grouped by category
+    @Query("SELECT p FROM PortalInfo p ORDER BY p.category, p.infoKey")
+    List<PortalInfo> findAllOrdered();
+
+    @Query("SELECT p FROM PortalInfo p WHERE p.enabled = true")
+    List<PortalInfo> findEnabled();
+}
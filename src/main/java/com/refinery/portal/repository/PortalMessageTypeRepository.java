@@ -0,0 +1,16 @@
+package com.refinery.portal.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.PortalMessageType;
+
+@Repository
+public interface PortalMessageTypeRepository extends JpaRepository<PortalMessageType, Long> {
+
+    @Query("SELECT t FROM PortalMessageType t WHERE t.enabled = true ORDER BY t.typeCode")
+    List<PortalMessageType> findEnabled();
+}
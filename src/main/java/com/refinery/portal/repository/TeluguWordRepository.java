@@ -0,0 +1,27 @@
+package com.refinery.portal.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.TeluguWord;
+
+@Repository
+public interface TeluguWordRepository extends JpaRepository<TeluguWord, Long> {
+
+    // Enabled words scheduled for the date, oldest first
+    @Query("SELECT w FROM TeluguWord w WHERE w.enabled = true AND w.displayDate = :date ORDER BY w.id")
+    List<TeluguWord> findScheduledFor(@Param("date") LocalDate date, Pageable pageable);
+
+    // Enabled words without a display date, the rotation for unscheduled days
+    @Query("SELECT COUNT(w) FROM TeluguWord w WHERE w.enabled = true AND w.displayDate IS NULL")
+    long countUnscheduled();
+
+    @Query("SELECT w FROM TeluguWord w WHERE w.enabled = true AND w.displayDate IS NULL ORDER BY w.id")
+    List<TeluguWord> findUnscheduled(Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.refinery.portal.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.VisitorSketch;
+
+@Repository
+public interface VisitorSketchRepository extends JpaRepository<VisitorSketch, Long> {
+
+    // All sketches for the inclusive date range, to be merged into a report
+    @Query("SELECT s FROM VisitorSketch s WHERE s.sketchDate BETWEEN :from AND :to")
+    List<VisitorSketch> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
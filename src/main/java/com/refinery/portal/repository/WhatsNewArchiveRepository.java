@@ -0,0 +1,25 @@
+package com.refinery.portal.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.refinery.portal.entity.WhatsNewArchive;
+
+@Repository
+public interface WhatsNewArchiveRepository extends JpaRepository<WhatsNewArchive, Long> {
+
+    // Archived announcements, most recently expired first
+    @Query("SELECT w FROM WhatsNewArchive w ORDER BY w.validTo DESC, w.id DESC")
+    Page<WhatsNewArchive> findAllForHistory(Pageable pageable);
+
+    // Search archived announcements by title or description
+    @Query("SELECT w FROM WhatsNewArchive w WHERE " +
+           "LOWER(w.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(w.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "ORDER BY w.validTo DESC, w.id DESC")
+    Page<WhatsNewArchive> searchForHistory(@Param("searchTerm") String searchTerm, Pageable pageable);
+}
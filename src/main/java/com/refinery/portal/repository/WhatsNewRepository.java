@@ -1,6 +1,7 @@
 package com.refinery.portal.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -11,30 +12,26 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.refinery.portal.dto.WhatsNewRow;
 import com.refinery.portal.entity.WhatsNew;
 
 @Repository
 public interface WhatsNewRepository extends JpaRepository<WhatsNew, Long> {
 
-    // Find all enabled items, ordered by global display order
+    // Enabled items not yet expired (future ones included), for ActiveWhatsNewIndex
     @Query("SELECT w FROM WhatsNew w WHERE w.enabled = true AND " +
-           "(w.validTo IS NULL OR w.validTo >= CURRENT_DATE) AND " +
-           "w.validFrom <= CURRENT_DATE " +
+           "(w.validTo IS NULL OR w.validTo >= :today) " +
            "ORDER BY w.displayOrder ASC")
-    List<WhatsNew> findActiveWhatsNew();
-
-    // Find top N enabled items for dashboard
-    @Query("SELECT w FROM WhatsNew w WHERE w.enabled = true AND " +
-           "(w.validTo IS NULL OR w.validTo >= CURRENT_DATE) AND " +
-           "w.validFrom <= CURRENT_DATE " +
-           "ORDER BY w.displayOrder ASC")
-    Page<WhatsNew> findActiveWhatsNewForDashboard(Pageable pageable);
+    List<WhatsNew> findActiveCandidates(@Param("today") LocalDate today);
 
     // Find by enabled status with pagination
     @Query("SELECT w FROM WhatsNew w WHERE w.enabled = :enabled " +
            "ORDER BY w.displayOrder ASC")
     Page<WhatsNew> findByEnabledOrderByPriorityAscDisplayOrderAscValidFromDesc(@Param("enabled") Boolean enabled, Pageable pageable);
 
+    // Rows never given a display order
+    long countByDisplayOrderIsNull();
+
     // Find by priority and get max display order
     @Query("SELECT COALESCE(MAX(w.displayOrder), 0) FROM WhatsNew w WHERE w.priority = :priority")
     Integer findMaxDisplayOrderByPriority(@Param("priority") Integer priority);
@@ -50,6 +47,21 @@ public interface WhatsNewRepository extends JpaRepository<WhatsNew, Long> {
            "WHERE w.priority = :priority AND w.displayOrder >= :fromOrder")
     void incrementDisplayOrderFromPosition(@Param("priority") Integer priority, @Param("fromOrder") Integer fromOrder);
 
+    // Set the enabled flag of many rows in one statement; returns the rows matched
+    @Modifying
+    @Query("UPDATE WhatsNew w SET w.enabled = :enabled, w.modifiedDate = :modifiedDate WHERE w.id IN :ids")
+    int updateEnabled(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled,
+                      @Param("modifiedDate") LocalDate modifiedDate);
+
+    // Flip the enabled flag of one row without loading it
+    @Modifying
+    @Query("UPDATE WhatsNew w SET w.enabled = CASE WHEN w.enabled = true THEN false ELSE true END, " +
+           "w.modifiedDate = :modifiedDate WHERE w.id = :id")
+    int toggleEnabled(@Param("id") Long id, @Param("modifiedDate") LocalDate modifiedDate);
+
+    @Query("SELECT w.enabled FROM WhatsNew w WHERE w.id = :id")
+    Boolean findEnabledById(@Param("id") Long id);
+
     // Find by date range
     @Query("SELECT w FROM WhatsNew w WHERE w.validFrom >= :fromDate AND w.validFrom <= :toDate " +
            "ORDER BY w.validFrom DESC")
@@ -71,13 +83,24 @@ public interface WhatsNewRepository extends JpaRepository<WhatsNew, Long> {
            "ORDER BY w.validFrom DESC")
     Page<WhatsNew> findByTitleContainingIgnoreCase(@Param("title") String title, Pageable pageable);
 
-    // Count active items
-    @Query("SELECT COUNT(w) FROM WhatsNew w WHERE w.enabled = true AND " +
-           "(w.validTo IS NULL OR w.validTo >= CURRENT_DATE) AND " +
-           "w.validFrom <= CURRENT_DATE")
-    long countActiveWhatsNew();
-
     // Find all items (enabled and disabled) ordered by display order
     @Query("SELECT w FROM WhatsNew w ORDER BY w.displayOrder ASC")
     Page<WhatsNew> findAllOrderByDisplayOrder(Pageable pageable);
+
+    // Management table rows (DataTables); sort comes from the Pageable
+    @Query("SELECT new com.refinery.portal.dto.WhatsNewRow(w.id, w.title, SUBSTRING(w.description, 1, 200), w.url, " +
+           "w.validFrom, w.validTo, w.enabled, w.priority, w.displayOrder) FROM WhatsNew w")
+    List<WhatsNewRow> findTableRows(Pageable pageable);
+
+    // Management table rows matching a search on title or description
+    @Query("SELECT new com.refinery.portal.dto.WhatsNewRow(w.id, w.title, SUBSTRING(w.description, 1, 200), w.url, " +
+           "w.validFrom, w.validTo, w.enabled, w.priority, w.displayOrder) FROM WhatsNew w WHERE " +
+           "LOWER(w.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(w.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    List<WhatsNewRow> searchTableRows(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT COUNT(w) FROM WhatsNew w WHERE " +
+           "LOWER(w.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(w.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    long countTableRows(@Param("searchTerm") String searchTerm);
 } 
\ No newline at end of file
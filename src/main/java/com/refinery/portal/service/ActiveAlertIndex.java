@@ -0,0 +1,36 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.refinery.portal.entity.ImportantAlert;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.ImportantAlertRepository;
+
+/**
+ * Active important alerts, highest priority first, then newest.
+ */
+@Component
+public class ActiveAlertIndex extends ActiveContentIndex<ImportantAlert> {
+
+    // Highest priority first, then newest
+    private static final Comparator<ImportantAlert> ORDER = Comparator
+            .comparing(ImportantAlert::getPriority, Comparator.nullsLast(Comparator.<Integer>reverseOrder()))
+            .thenComparing(ImportantAlert::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private ImportantAlertRepository repository;
+
+    public ActiveAlertIndex() {
+        super(ContentChangedEvent.ContentType.ALERTS, "vrp_imp_msg", ORDER);
+    }
+
+    @Override
+    protected List<ImportantAlert> loadCandidates(LocalDate today) {
+        return repository.findActiveCandidates(today);
+    }
+}
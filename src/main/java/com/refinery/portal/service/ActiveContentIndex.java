@@ -0,0 +1,261 @@
+package com.refinery.portal.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ReflectionUtils;
+
+import com.refinery.portal.entity.ActiveContent;
+import com.refinery.portal.event.ContentChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The active items of one content type, in display order, held in memory. A content type
+ * only supplies the query for its candidates (enabled and not yet expired, future items
+ * included) and its ordering; windowing, paging, counting and invalidation live here.
+ *
+ * Candidates are reloaded lazily on the first read after a committed change of the content
+ * type. When the date rolls over, the active list is re-filtered from the candidates without
+ * a query. Every new active list gets a new generation, so derived views (ticker payloads,
+ * alert feeds) can tell when to rebuild; change listeners run right after a commit.
+ *
+ * Changes made by another instance (or directly in the database) raise no local event. A
+ * periodic check compares COUNT(*) and MAX(MODIFIED_DATE) of the table with the values read
+ * at the last load. MODIFIED_DATE only has day precision, so a snapshot older than
+ * portal.active-content.max-age-ms is reloaded regardless; that reload only starts a new
+ * generation and runs the change listeners when the reloaded candidates actually differ.
+ *
+ * Items are shared by all readers and must be treated as read-only.
+ */
+public abstract class ActiveContentIndex<T extends ActiveContent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveContentIndex.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${portal.active-content.max-age-ms:300000}")
+    private long maxAgeMillis;
+
+    private final ContentChangedEvent.ContentType contentType;
+    private final String table;
+    private final Comparator<T> order;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong generations = new AtomicLong();
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * One generation of the active list, as of date.
+     */
+    public record View<T>(long generation, LocalDate date, List<T> items) {
+    }
+
+    // stamp and loadedAt describe the table when the candidates were loaded
+    private record Snapshot<T>(long version, List<T> candidates, View<T> view, String stamp, long loadedAt) {
+    }
+
+    protected ActiveContentIndex(ContentChangedEvent.ContentType contentType, String table, Comparator<T> order) {
+        this.contentType = contentType;
+        this.table = table;
+        this.order = order;
+    }
+
+    // Enabled items that have not expired by the given date, including ones not yet valid
+    protected abstract List<T> loadCandidates(LocalDate today);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getContentType() == contentType) {
+            invalidate();
+        }
+    }
+
+    // Pick up changes committed elsewhere; does nothing until the index has been read
+    @Scheduled(fixedDelayString = "${portal.active-content.refresh-interval-ms:30000}")
+    public void refresh() {
+        Snapshot<T> current = snapshot;
+        if (current == null || current.version() != version.get()) {
+            return; // not loaded yet, or already invalidated
+        }
+        try {
+            if (System.currentTimeMillis() - current.loadedAt() > maxAgeMillis) {
+                reloadIfChanged(current);
+            } else if (!readStamp().equals(current.stamp())) {
+                logger.info("{} changed in the database; reloading", contentType);
+                invalidate();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("{} version check failed: {}", contentType, e.getMessage());
+        }
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+        notifyListeners();
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : changeListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("{} change listener failed: {}", contentType, e.getMessage());
+            }
+        }
+    }
+
+    // Age-limit reload: an unchanged table only renews the stamp, so listeners (SSE broadcasts,
+    // ticker payloads) are not woken every max-age for nothing
+    private void reloadIfChanged(Snapshot<T> checked) {
+        synchronized (this) {
+            if (snapshot != checked || checked.version() != version.get()) {
+                return; // invalidated or rebuilt meanwhile
+            }
+            LocalDate today = checked.view().date();
+            String stamp = readStamp();
+            long loadedAt = System.currentTimeMillis();
+            List<T> candidates = load(today);
+            if (sameContent(candidates, checked.candidates())) {
+                snapshot = new Snapshot<>(checked.version(), checked.candidates(), checked.view(), stamp, loadedAt);
+                return;
+            }
+            logger.info("{} changed in the database; reloaded after the maximum age", contentType);
+            snapshot = newSnapshot(version.incrementAndGet(), candidates, today, stamp, loadedAt);
+        }
+        notifyListeners();
+    }
+
+    // Entities do not implement equals, so compare the persistent field values item by item
+    private static <T> boolean sameContent(List<T> reloaded, List<T> cached) {
+        if (reloaded.size() != cached.size()) {
+            return false;
+        }
+        for (int i = 0; i < reloaded.size(); i++) {
+            T a = reloaded.get(i);
+            T b = cached.get(i);
+            if (a.getClass() != b.getClass()) {
+                return false;
+            }
+            for (Class<?> type = a.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    ReflectionUtils.makeAccessible(field);
+                    if (!Objects.equals(ReflectionUtils.getField(field, a), ReflectionUtils.getField(field, b))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // Row count and latest modification day of the table
+    private String readStamp() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*), MAX(MODIFIED_DATE) FROM " + table,
+                (rs, rowNum) -> rs.getLong(1) + "/" + rs.getString(2));
+    }
+
+    // Run after every committed change of this content type (the index is already invalidated)
+    public void onChange(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    // The current active list with its generation; items, generation and date always belong together
+    public View<T> getView() {
+        Snapshot<T> current = snapshot;
+        if (current == null || current.version() != version.get() || !current.view().date().equals(LocalDate.now())) {
+            current = rebuild();
+        }
+        return current.view();
+    }
+
+    public List<T> getActive() {
+        return getView().items();
+    }
+
+    // First limit active items
+    public List<T> getTop(int limit) {
+        List<T> items = getActive();
+        return items.subList(0, Math.min(Math.max(limit, 0), items.size()));
+    }
+
+    public Page<T> getPage(int page, int size) {
+        List<T> items = getActive();
+        PageRequest pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + size, items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
+
+    public int count() {
+        return getActive().size();
+    }
+
+    public long getGeneration() {
+        return getView().generation();
+    }
+
+    private synchronized Snapshot<T> rebuild() {
+        long targetVersion = version.get();
+        LocalDate today = LocalDate.now();
+        Snapshot<T> current = snapshot;
+        if (current != null && current.version() == targetVersion && current.view().date().equals(today)) {
+            return current; // another thread rebuilt while we waited
+        }
+
+        List<T> candidates;
+        String stamp;
+        long loadedAt;
+        if (current != null && current.version() == targetVersion) {
+            candidates = current.candidates(); // only the date moved on
+            stamp = current.stamp();
+            loadedAt = current.loadedAt();
+        } else {
+            // Stamp first: a change landing in between makes the next check reload again
+            stamp = readStamp();
+            loadedAt = System.currentTimeMillis();
+            candidates = load(today);
+        }
+        Snapshot<T> rebuilt = newSnapshot(targetVersion, candidates, today, stamp, loadedAt);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private List<T> load(LocalDate today) {
+        List<T> candidates = loadCandidates(today).stream().sorted(order).toList();
+        meterRegistry.counter("portal.active-content.loads", "type", contentType.name()).increment();
+        return candidates;
+    }
+
+    // A new generation of the active list, filtered from the candidates for today
+    private Snapshot<T> newSnapshot(long targetVersion, List<T> candidates, LocalDate today, String stamp, long loadedAt) {
+        List<T> active = candidates.stream().filter(item -> item.isActiveOn(today)).toList();
+        logger.debug("{} active content rebuilt: {} active of {} candidates", contentType, active.size(), candidates.size());
+        return new Snapshot<>(targetVersion, candidates, new View<>(generations.incrementAndGet(), today, active), stamp, loadedAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.refinery.portal.entity.MessageBoard;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.MessageBoardRepository;
+
+/**
+ * Active Message Board messages in global display order (dashboard, ticker, counts).
+ */
+@Component
+public class ActiveMessageIndex extends ActiveContentIndex<MessageBoard> {
+
+    // Global display order; messages without one last
+    private static final Comparator<MessageBoard> ORDER = Comparator
+            .comparing(MessageBoard::getDisplayOrder, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .thenComparing(MessageBoard::getId);
+
+    @Autowired
+    private MessageBoardRepository repository;
+
+    public ActiveMessageIndex() {
+        super(ContentChangedEvent.ContentType.MESSAGEBOARD, "vrp_scrollmsg", ORDER);
+    }
+
+    @Override
+    protected List<MessageBoard> loadCandidates(LocalDate today) {
+        return repository.findActiveCandidates(today);
+    }
+}
@@ -0,0 +1,36 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.refinery.portal.entity.WhatsNew;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.WhatsNewRepository;
+
+/**
+ * Active What's New items in global display order (dashboard, public list, counts).
+ */
+@Component
+public class ActiveWhatsNewIndex extends ActiveContentIndex<WhatsNew> {
+
+    // Global display order; items without one last
+    private static final Comparator<WhatsNew> ORDER = Comparator
+            .comparing(WhatsNew::getDisplayOrder, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .thenComparing(WhatsNew::getId);
+
+    @Autowired
+    private WhatsNewRepository repository;
+
+    public ActiveWhatsNewIndex() {
+        super(ContentChangedEvent.ContentType.WHATSNEW, "vrp_whatsnew", ORDER);
+    }
+
+    @Override
+    protected List<WhatsNew> loadCandidates(LocalDate today) {
+        return repository.findActiveCandidates(today);
+    }
+}
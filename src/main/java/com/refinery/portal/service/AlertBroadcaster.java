@@ -0,0 +1,135 @@
+package com.refinery.portal.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.refinery.portal.dto.AlertFeed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Open server-sent-event streams of portal pages. Each stream remembers its viewer's user
+ * id (0 for anonymous) so a broadcast can send every page its own alert feed. Broadcasts
+ * run on a single background thread, never on the thread that committed the change.
+ * Anonymous streams have their own, lower limit so signed-in users always have room.
+ */
+@Component
+public class AlertBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertBroadcaster.class);
+
+    public static final long ANONYMOUS = 0L;
+
+    private static final String EVENT_NAME = "alerts";
+
+    @Value("${portal.alerts.stream-timeout-ms:1800000}")
+    private long streamTimeout;
+
+    @Value("${portal.alerts.max-streams:5000}")
+    private int maxStreams;
+
+    @Value("${portal.alerts.max-anonymous-streams:4000}")
+    private int maxAnonymousStreams;
+
+    private final Map<SseEmitter, Long> streams = new ConcurrentHashMap<>();
+
+    private final AtomicInteger anonymousStreams = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "alert-broadcast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AlertBroadcaster(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("portal.alerts.streams", Tags.empty(), streams);
+        meterRegistry.gauge("portal.alerts.streams.anonymous", Tags.empty(), anonymousStreams);
+    }
+
+    // New stream starting with the viewer's current feed, or null when at the stream limit
+    public SseEmitter subscribe(long userId, AlertFeed initialFeed) {
+        if (streams.size() >= maxStreams) {
+            return null;
+        }
+        if (userId == ANONYMOUS && anonymousStreams.incrementAndGet() > maxAnonymousStreams) {
+            anonymousStreams.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+        emitter.onCompletion(() -> close(emitter));
+        emitter.onTimeout(() -> close(emitter));
+        emitter.onError(error -> close(emitter));
+        streams.put(emitter, userId);
+        send(emitter, initialFeed);
+        return emitter;
+    }
+
+    // Send each open stream its viewer's feed
+    public void broadcast(Function<Long, AlertFeed> feedForUser) {
+        sender.execute(() -> {
+            Map<Long, AlertFeed> feeds = new ConcurrentHashMap<>();
+            streams.forEach((emitter, userId) -> send(emitter, feeds.computeIfAbsent(userId, feedForUser)));
+            logger.debug("Broadcast alerts to {} streams", streams.size());
+        });
+    }
+
+    // Send one viewer's open streams (e.g. other tabs after a dismissal) their new feed
+    public void sendTo(long userId, AlertFeed feed) {
+        sender.execute(() -> streams.forEach((emitter, streamUser) -> {
+            if (streamUser == userId) {
+                send(emitter, feed);
+            }
+        }));
+    }
+
+    // Comment line keeping idle connections open through proxies
+    @Scheduled(fixedDelayString = "${portal.alerts.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        streams.keySet().forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                close(emitter);
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, AlertFeed feed) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(feed, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // The page went away; the container completes the emitter
+            close(emitter);
+        }
+    }
+
+    // Forget a stream; safe to call more than once
+    private void close(SseEmitter emitter) {
+        Long userId = streams.remove(emitter);
+        if (userId != null && userId == ANONYMOUS) {
+            anonymousStreams.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        streams.keySet().forEach(SseEmitter::complete);
+    }
+}
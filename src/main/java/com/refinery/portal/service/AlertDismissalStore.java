@@ -0,0 +1,170 @@
+package com.refinery.portal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Which users dismissed which alert popups, as one RoaringBitmap of user ids per alert.
+ * Bitmaps are never modified once published: a dismissal installs a modified copy, so
+ * lookups are lock-free. Only alerts that are currently active are held in memory.
+ * Changes are merged (bitwise OR) into vrp_imp_msg_dismissals in the background, which
+ * also picks up dismissals recorded by other instances.
+ */
+@Component
+public class AlertDismissalStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertDismissalStore.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, RoaringBitmap> dismissals = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // True if the user dismissed the alert; user ids beyond int range are never tracked
+    public boolean isDismissed(long alertId, long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            return false;
+        }
+        RoaringBitmap users = dismissals.get(alertId);
+        return users != null && users.contains((int) userId);
+    }
+
+    public void dismiss(long alertId, long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            logger.warn("User id {} is outside the bitmap range; dismissal of alert {} not recorded", userId, alertId);
+            return;
+        }
+        dismissals.compute(alertId, (id, users) -> {
+            RoaringBitmap updated = users == null ? new RoaringBitmap() : users.clone();
+            updated.add((int) userId);
+            updated.runOptimize();
+            return updated;
+        });
+        dirty.add(alertId);
+        meterRegistry.counter("portal.alerts.dismissals").increment();
+    }
+
+    // Hold bitmaps for exactly the given (active) alerts, loading any not yet in memory
+    public void retainAndLoad(Collection<Long> alertIds) {
+        Set<Long> active = Set.copyOf(alertIds);
+        dismissals.keySet().removeIf(id -> !active.contains(id) && !dirty.contains(id));
+        List<Long> missing = active.stream().filter(id -> !dismissals.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        String placeholders = missing.stream().map(id -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.query("SELECT ALERT_ID, USER_BITMAP FROM vrp_imp_msg_dismissals WHERE ALERT_ID IN (" + placeholders + ")",
+                rs -> {
+                    RoaringBitmap stored = deserialize(rs.getBytes(2));
+                    dismissals.merge(rs.getLong(1), stored, (held, loaded) -> RoaringBitmap.or(held, loaded));
+                }, missing.toArray());
+    }
+
+    // Forget an alert's dismissals (the alert was deleted; the row goes with it)
+    public void remove(long alertId) {
+        dismissals.remove(alertId);
+        dirty.remove(alertId);
+    }
+
+    @Scheduled(fixedDelayString = "${portal.alerts.dismissal-flush-interval-ms:5000}")
+    public synchronized void flush() {
+        for (Long alertId : List.copyOf(dirty)) {
+            dirty.remove(alertId);
+            RoaringBitmap users = dismissals.get(alertId);
+            if (users == null) {
+                continue;
+            }
+            try {
+                RoaringBitmap merged = new TransactionTemplate(transactionManager).execute(status -> mergeInto(alertId, users));
+                if (merged == null) {
+                    // The alert was deleted after this dismissal; there is no row to merge into
+                    dismissals.remove(alertId);
+                    dirty.remove(alertId);
+                    logger.debug("Dropped dismissals of deleted alert {}", alertId);
+                    continue;
+                }
+                // Pick up other instances' dismissals without losing any made meanwhile here
+                dismissals.merge(alertId, merged, (held, loaded) -> RoaringBitmap.or(held, loaded));
+            } catch (RuntimeException e) {
+                // Also covers a delete racing this flush (fk_dismissals_alert); the retry then drops it
+                dirty.add(alertId);
+                logger.warn("Failed to persist dismissals of alert {}: {}", alertId, e.getMessage());
+            }
+        }
+    }
+
+    // Merged bitmap as written, or null when the alert no longer exists
+    private RoaringBitmap mergeInto(long alertId, RoaringBitmap users) {
+        Integer alerts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vrp_imp_msg WHERE ID = ?", Integer.class, alertId);
+        if (alerts == null || alerts == 0) {
+            return null;
+        }
+        List<byte[]> stored = jdbcTemplate.query(
+                "SELECT USER_BITMAP FROM vrp_imp_msg_dismissals WHERE ALERT_ID = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getBytes(1), alertId);
+        RoaringBitmap merged = stored.isEmpty() ? users.clone() : RoaringBitmap.or(deserialize(stored.get(0)), users);
+        merged.runOptimize();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (stored.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO vrp_imp_msg_dismissals (ALERT_ID, USER_BITMAP, MODIFIED_DATE) VALUES (?, ?, ?)",
+                    alertId, serialize(merged), now);
+        } else {
+            jdbcTemplate.update("UPDATE vrp_imp_msg_dismissals SET USER_BITMAP = ?, MODIFIED_DATE = ? WHERE ALERT_ID = ?",
+                    serialize(merged), now, alertId);
+        }
+        return merged;
+    }
+
+    private static byte[] serialize(RoaringBitmap bitmap) {
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    private static RoaringBitmap deserialize(byte[] data) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(data)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bitmap;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
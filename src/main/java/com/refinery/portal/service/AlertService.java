@@ -0,0 +1,177 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.refinery.portal.dto.AlertFeed;
+import com.refinery.portal.dto.AlertPopup;
+import com.refinery.portal.entity.ImportantAlert;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.ImportantAlertRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+@Transactional
+public class AlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertService.class);
+
+    @Autowired
+    private ImportantAlertRepository importantAlertRepository;
+
+    @Autowired
+    private AlertDismissalStore alertDismissalStore;
+
+    @Autowired
+    private AlertBroadcaster alertBroadcaster;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ActiveAlertIndex activeAlertIndex;
+
+    private volatile Snapshot snapshot;
+
+    // One ActiveAlertIndex generation of the active alerts as sent to pages
+    private record Snapshot(long generation, List<AlertPopup> alerts) {
+    }
+
+    // After commit: push every open page its new feed
+    @PostConstruct
+    public void registerChangeListener() {
+        activeAlertIndex.onChange(() -> alertBroadcaster.broadcast(this::getFeedFor));
+    }
+
+    // Feeds are built from the in-memory snapshot and dismissal bitmaps and must not hold a connection
+
+    // Active alerts for a viewer: every banner, and the popups they have not dismissed
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AlertFeed getFeedFor(Long userId) {
+        List<AlertPopup> alerts = current().alerts();
+        if (userId == null || userId == AlertBroadcaster.ANONYMOUS) {
+            return new AlertFeed(false, alerts);
+        }
+        return new AlertFeed(true, alerts.stream()
+                .filter(alert -> !alert.popup() || !alertDismissalStore.isDismissed(alert.id(), userId))
+                .toList());
+    }
+
+    // Open a push stream for a page, starting with the viewer's current feed; null when at the stream limit
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SseEmitter subscribe(Long userId) {
+        long viewer = userId != null ? userId : AlertBroadcaster.ANONYMOUS;
+        return alertBroadcaster.subscribe(viewer, getFeedFor(viewer));
+    }
+
+    // Record that a user closed an active popup; false if there is no such popup
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean dismiss(Long alertId, Long userId) {
+        boolean activePopup = current().alerts().stream()
+                .anyMatch(alert -> alert.id().equals(alertId) && alert.popup());
+        if (!activePopup) {
+            return false;
+        }
+        alertDismissalStore.dismiss(alertId, userId);
+        alertBroadcaster.sendTo(userId, getFeedFor(userId));
+        return true;
+    }
+
+    // Get all alerts with pagination, newest first
+    @Transactional(readOnly = true)
+    public Page<ImportantAlert> getAllAlerts(int page, int size) {
+        return importantAlertRepository.findAllForManagement(PageRequest.of(page, size));
+    }
+
+    // Get alert by ID
+    @Transactional(readOnly = true)
+    public Optional<ImportantAlert> getAlertById(Long id) {
+        return importantAlertRepository.findById(id);
+    }
+
+    // Save or update alert
+    public ImportantAlert saveAlert(ImportantAlert alert) {
+        if (alert.getId() == null) {
+            alert.setCreatedDate(LocalDate.now());
+        }
+        alert.setModifiedDate(LocalDate.now());
+        ImportantAlert saved = importantAlertRepository.save(alert);
+        publishChange();
+        return saved;
+    }
+
+    // Delete alert together with its dismissals
+    public void deleteAlert(Long id) {
+        jdbcTemplate.update("DELETE FROM vrp_imp_msg_dismissals WHERE ALERT_ID = ?", id);
+        importantAlertRepository.deleteById(id);
+        alertDismissalStore.remove(id);
+        publishChange();
+    }
+
+    // Toggle enabled status
+    public ImportantAlert toggleEnabled(Long id) {
+        ImportantAlert alert = importantAlertRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Alert not found with id: " + id));
+        alert.setEnabled(!alert.getEnabled());
+        alert.setModifiedDate(LocalDate.now());
+        ImportantAlert saved = importantAlertRepository.save(alert);
+        publishChange();
+        return saved;
+    }
+
+    // Alerts starting or expiring today reach open pages without a publish
+    @Scheduled(cron = "${portal.alerts.rollover-cron:0 0 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void broadcastDateRollover() {
+        alertBroadcaster.broadcast(this::getFeedFor);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation() != activeAlertIndex.getGeneration()) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild() {
+        ActiveContentIndex.View<ImportantAlert> active = activeAlertIndex.getView();
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == active.generation()) {
+            return current; // another thread rebuilt while we waited
+        }
+        List<AlertPopup> alerts = active.items().stream()
+                .map(alert -> new AlertPopup(alert.getId(), alert.getTitle(), alert.getMessage(),
+                        alert.getMsgType() != null ? alert.getMsgType() : "info",
+                        alert.getPriority() != null ? alert.getPriority() : 0,
+                        Boolean.TRUE.equals(alert.getShowPopup())))
+                .toList();
+        alertDismissalStore.retainAndLoad(alerts.stream().filter(AlertPopup::popup).map(AlertPopup::id).toList());
+        snapshot = new Snapshot(active.generation(), alerts);
+        logger.debug("Rebuilt alert snapshot: {} active alerts", alerts.size());
+        return snapshot;
+    }
+
+    // Alert rows changed; open pages are updated after commit
+    private void publishChange() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.ALERTS));
+    }
+}
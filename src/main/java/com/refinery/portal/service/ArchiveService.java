@@ -0,0 +1,195 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.refinery.portal.entity.MessageBoardArchive;
+import com.refinery.portal.entity.WhatsNewArchive;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.MessageBoardArchiveRepository;
+import com.refinery.portal.repository.WhatsNewArchiveRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves expired What's New and Message Board rows into the archive tables so the
+ * hot tables only hold current content. Each batch is copied and deleted in its own
+ * short transaction; display order gaps are closed once at the end of a run.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+
+    private static final String WHATSNEW_COLUMNS =
+            "ID, TITLE, DESCRIPTION, URL, VALIDFROM, VALIDTO, ENABLED, PRIORITY, CREATED_DATE, MODIFIED_DATE";
+
+    private static final String MESSAGE_COLUMNS =
+            "ID, MSG_HEADER, MESSAGE, MESSAGE_HINDI, MSG_HEADER_HINDI, VALIDFROM, VALIDTO, ENABLED, PRIORITY, " +
+            "SPEED, COLOR, BGCOLOR, MSGBY, CREATED_DATE, MODIFIED_DATE, DTSTAMP";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MessageBoardArchiveRepository messageBoardArchiveRepository;
+
+    @Autowired
+    private WhatsNewArchiveRepository whatsNewArchiveRepository;
+
+    @Autowired
+    private MessageBoardService messageBoardService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private WhatsNewService whatsNewService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${portal.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${portal.archive.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${portal.archive.batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public static class ArchiveResult {
+        private final int whatsNewArchived;
+        private final int messagesArchived;
+        private final LocalDate cutoff;
+
+        public ArchiveResult(int whatsNewArchived, int messagesArchived, LocalDate cutoff) {
+            this.whatsNewArchived = whatsNewArchived;
+            this.messagesArchived = messagesArchived;
+            this.cutoff = cutoff;
+        }
+
+        public int getWhatsNewArchived() { return whatsNewArchived; }
+        public int getMessagesArchived() { return messagesArchived; }
+        public LocalDate getCutoff() { return cutoff; }
+    }
+
+    // Nightly run, see portal.archive.cron
+    @Scheduled(cron = "${portal.archive.cron:0 30 2 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveExpired();
+        }
+    }
+
+    // Archive everything that expired before the retention window; returns null if a run is already in progress
+    public ArchiveResult archiveExpired() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Archive run already in progress, skipping");
+            return null;
+        }
+        try {
+            LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+            int whatsNew = archiveTable("whatsnew", "vrp_whatsnew", "vrp_whatsnew_archive", WHATSNEW_COLUMNS, cutoff);
+            int messages = archiveTable("messageboard", "vrp_scrollmsg", "vrp_scrollmsg_archive", MESSAGE_COLUMNS, cutoff);
+
+            // Close the gaps left in the display order sequence, keeping the remaining rows' order
+            if (whatsNew > 0) {
+                whatsNewService.compactDisplayOrders();
+                eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.WHATSNEW));
+            }
+            if (messages > 0) {
+                messageBoardService.compactDisplayOrders();
+                eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.MESSAGEBOARD));
+            }
+
+            logger.info("Archived {} What's New items and {} messages with VALIDTO before {}", whatsNew, messages, cutoff);
+            return new ArchiveResult(whatsNew, messages, cutoff);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int archiveTable(String type, String table, String archiveTable, String columns, LocalDate cutoff) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(table, archiveTable, columns, cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            meterRegistry.counter("portal.archive.rows", "type", type).increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveBatch(String table, String archiveTable, String columns, LocalDate cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT ID FROM " + table + " WHERE VALIDTO < ? ORDER BY ID LIMIT ?",
+                Long.class, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] insertArgs = new Object[ids.size() + 1];
+        insertArgs[0] = LocalDate.now();
+        for (int i = 0; i < ids.size(); i++) {
+            insertArgs[i + 1] = ids.get(i);
+        }
+
+        jdbcTemplate.update("INSERT INTO " + archiveTable + " (" + columns + ", ARCHIVED_DATE) " +
+                "SELECT " + columns + ", ? FROM " + table + " WHERE ID IN (" + placeholders + ")", insertArgs);
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE ID IN (" + placeholders + ")", ids.toArray());
+    }
+
+    // History view queries
+
+    @Transactional(readOnly = true)
+    public Page<WhatsNewArchive> getWhatsNewHistory(String search, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (search != null && !search.trim().isEmpty()) {
+            return whatsNewArchiveRepository.searchForHistory(search.trim(), pageable);
+        }
+        return whatsNewArchiveRepository.findAllForHistory(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<MessageBoardArchive> getMessageHistory(String search, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (search != null && !search.trim().isEmpty()) {
+            return messageBoardArchiveRepository.searchForHistory(search.trim(), pageable);
+        }
+        return messageBoardArchiveRepository.findAllForHistory(pageable);
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+}
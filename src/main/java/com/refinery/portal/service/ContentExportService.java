@@ -0,0 +1,284 @@
+package com.refinery.portal.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Streams the whole What's New or Message Board table as CSV or NDJSON. Rows are read
+ * through a forward-only cursor, fetch-size rows at a time, and written straight to the
+ * output, so memory use does not grow with the table. The Message Board CSV starts with
+ * the DataMigrationService import columns, so an export can be imported again.
+ */
+@Service
+public class ContentExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentExportService.class);
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        // Format from a request parameter; null when not recognised
+        public static Format from(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    private enum ColumnType { TEXT, NUMBER, DATE, TIMESTAMP, FLAG }
+
+    // column is selected from the table, csvHeader names it in CSV and field in NDJSON
+    private record Column(String column, String csvHeader, String field, ColumnType type) {
+        Column(String column, String field, ColumnType type) {
+            this(column, column, field, type);
+        }
+    }
+
+    private record ExportTable(String sql, List<Column> columns) {
+    }
+
+    private static final Map<String, ExportTable> TABLES = Map.of(
+            "whatsnew", table("vrp_whatsnew", List.of(
+                    new Column("ID", "id", ColumnType.NUMBER),
+                    new Column("TITLE", "title", ColumnType.TEXT),
+                    new Column("DESCRIPTION", "description", ColumnType.TEXT),
+                    new Column("URL", "url", ColumnType.TEXT),
+                    new Column("VALIDFROM", "validFrom", ColumnType.DATE),
+                    new Column("VALIDTO", "validTo", ColumnType.DATE),
+                    new Column("ENABLED", "enabled", ColumnType.FLAG),
+                    new Column("PRIORITY", "priority", ColumnType.NUMBER),
+                    new Column("DISPLAY_ORDER", "displayOrder", ColumnType.NUMBER),
+                    new Column("CREATED_DATE", "createdDate", ColumnType.DATE),
+                    new Column("MODIFIED_DATE", "modifiedDate", ColumnType.DATE))),
+            // First eleven columns are the DataMigrationService import layout
+            "messageboard", table("vrp_scrollmsg", List.of(
+                    new Column("ID", "MSGID", "id", ColumnType.NUMBER),
+                    new Column("MESSAGE", "message", ColumnType.TEXT),
+                    new Column("VALIDTO", "VALIDUPTO", "validTo", ColumnType.DATE),
+                    new Column("PRIORITY", "priority", ColumnType.NUMBER),
+                    new Column("MSGBY", "createdBy", ColumnType.TEXT),
+                    new Column("DTSTAMP", "dateTimeStamp", ColumnType.TIMESTAMP),
+                    new Column("MSG_HEADER", "header", ColumnType.TEXT),
+                    new Column("VALIDFROM", "validFrom", ColumnType.DATE),
+                    new Column("ENABLED", "enabled", ColumnType.FLAG),
+                    new Column("MESSAGE_HINDI", "messageHindi", ColumnType.TEXT),
+                    new Column("MSG_HEADER_HINDI", "headerHindi", ColumnType.TEXT),
+                    new Column("SPEED", "speed", ColumnType.TEXT),
+                    new Column("COLOR", "color", ColumnType.TEXT),
+                    new Column("BGCOLOR", "backgroundColor", ColumnType.TEXT),
+                    new Column("DISPLAY_ORDER", "displayOrder", ColumnType.NUMBER),
+                    new Column("CREATED_DATE", "createdDate", ColumnType.DATE),
+                    new Column("MODIFIED_DATE", "modifiedDate", ColumnType.DATE))));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${portal.export.fetch-size:500}")
+    private int fetchSize;
+
+    private JdbcTemplate cursorTemplate;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        // Separate template so the fetch size only applies to exports
+        cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(fetchSize);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static ExportTable table(String name, List<Column> columns) {
+        String select = columns.stream().map(Column::column).collect(Collectors.joining(", "));
+        return new ExportTable("SELECT " + select + " FROM " + name + " ORDER BY ID", columns);
+    }
+
+    public boolean supports(String type) {
+        return TABLES.containsKey(type);
+    }
+
+    /**
+     * Write every row of the table to the stream; returns the number of rows written.
+     * Runs in a read-only transaction, so it is served by the replica when one is configured.
+     */
+    public long export(String type, Format format, OutputStream out) throws IOException {
+        ExportTable table = TABLES.get(type);
+        if (table == null) {
+            throw new IllegalArgumentException("Unknown export type: " + type);
+        }
+        long startNanos = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                try (Stream<Object[]> stream = cursorTemplate.queryForStream(table.sql(),
+                        (rs, rowNum) -> readRow(rs, table.columns()))) {
+                    return format == Format.CSV
+                            ? writeCsv(table.columns(), stream.iterator(), writer)
+                            : writeNdjson(table.columns(), stream.iterator(), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.counter("portal.export.rows", "type", type, "format", format.getExtension()).increment(rows);
+        logger.info("Exported {} {} rows as {} in {} ms", rows, type, format,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return rows;
+    }
+
+    private Object[] readRow(ResultSet rs, List<Column> columns) throws SQLException {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            int index = i + 1;
+            values[i] = switch (columns.get(i).type()) {
+                case TEXT -> rs.getString(index);
+                case NUMBER -> rs.getObject(index, Long.class);
+                case DATE -> rs.getObject(index, LocalDate.class);
+                case TIMESTAMP -> rs.getObject(index, LocalDateTime.class);
+                case FLAG -> rs.getObject(index, Boolean.class);
+            };
+        }
+        return values;
+    }
+
+    private long writeCsv(List<Column> columns, Iterator<Object[]> rows, Writer writer) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).csvHeader());
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            Object[] values = rows.next();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values[i];
+                if (value instanceof Boolean enabled) {
+                    writer.write(enabled ? "Y" : "N");
+                } else if (value instanceof String text) {
+                    writeCsvText(text, writer);
+                } else if (value != null) {
+                    writer.write(value.toString());
+                }
+            }
+            writer.write("\r\n");
+            count++;
+        }
+        return count;
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break; double embedded quotes
+    private void writeCsvText(String text, Writer writer) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < text.length() && !needsQuotes; i++) {
+            char c = text.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long writeNdjson(List<Column> columns, Iterator<Object[]> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            Object[] values = rows.next();
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                String field = columns.get(i).field();
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNullField(field);
+                } else if (value instanceof Long number) {
+                    generator.writeNumberField(field, number);
+                } else if (value instanceof Boolean flag) {
+                    generator.writeBooleanField(field, flag);
+                } else {
+                    generator.writeStringField(field, value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.close();
+        return count;
+    }
+}
@@ -3,27 +3,55 @@ package com.refinery.portal.service;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.refinery.portal.entity.MessageBoard;
+import com.refinery.portal.event.ContentChangedEvent;
 import com.refinery.portal.repository.MessageBoardRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 @Transactional
 public class DataMigrationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataMigrationService.class);
+
     @Autowired
     private MessageBoardRepository messageBoardRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("M/d/yy");
     private static final DateTimeFormatter STANDARD_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -59,33 +87,34 @@ public class DataMigrationService {
     /**
      * Migrate data from CSV file to Message Board
      * CSV Format: MSGID,MESSAGE,VALIDUPTO,PRIORITY,MSGBY,DTSTAMP,MSG_HEADER,VALIDFROM,ENABLED,MESSAGE_HINDI,MSG_HEADER_HINDI
+     * optionally followed by SPEED,COLOR,BGCOLOR and further columns (as written by ContentExportService)
+     * Runs outside a transaction so a failed save can be rolled back and retried row by row.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MigrationResult migrateCsvData(String csvFilePath) {
         MigrationResult result = new MigrationResult();
+        long startNanos = System.nanoTime();
+        List<MessageBoard> importedMessages = new ArrayList<>();
+        List<Integer> importedLines = new ArrayList<>();
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(csvFilePath))) {
-            String line;
-            boolean isFirstLine = true;
-            int lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(csvFilePath, StandardCharsets.UTF_8))) {
+            CsvRecordReader records = new CsvRecordReader(reader);
             
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                
-                // Skip header line
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                
+            // Skip header line
+            records.next();
+            
+            String[] fields;
+            while ((fields = records.next()) != null) {
                 try {
-                    MessageBoard messageBoard = parseCsvLine(line, lineNumber);
+                    MessageBoard messageBoard = parseCsvRecord(fields);
                     if (messageBoard != null) {
-                        messageBoardRepository.save(messageBoard);
+                        importedMessages.add(messageBoard);
+                        importedLines.add(records.getStartLine());
                         result.incrementSuccessful();
                     }
                 } catch (Exception e) {
                     result.incrementFailed();
-                    result.addError("Line " + lineNumber + ": " + e.getMessage());
+                    result.addError("Line " + records.getStartLine() + ": " + e.getMessage());
                 }
             }
             
@@ -95,16 +124,106 @@ public class DataMigrationService {
             result.addError("Failed to read CSV file: " + e.getMessage());
         }
         
+        if (!importedMessages.isEmpty()) {
+            saveImported(importedMessages, importedLines, result);
+        }
+        
+        recordMigrationMetrics(result, System.nanoTime() - startNanos);
         return result;
     }
 
     /**
-     * Parse a single CSV line and create MessageBoard entity
+     * Save all parsed messages in one transaction. If that fails, the whole batch (renumbering
+     * included) is rolled back and each message is placed in a transaction of its own, so one
+     * bad row costs only itself; rows that still fail are moved from successful to failed.
      */
-    private MessageBoard parseCsvLine(String line, int lineNumber) throws Exception {
-        // Handle CSV parsing with proper quote handling
-        String[] fields = parseCsvFields(line);
-        
+    private void saveImported(List<MessageBoard> importedMessages, List<Integer> importedLines, MigrationResult result) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> saveWithDisplayOrder(importedMessages));
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("CSV import of {} messages failed, saving them one by one: {}",
+                    importedMessages.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < importedMessages.size(); i++) {
+            MessageBoard message = importedMessages.get(i);
+            message.setId(null); // assigned by the rolled-back insert
+            try {
+                transaction.executeWithoutResult(status -> saveWithDisplayOrder(List.of(message)));
+            } catch (RuntimeException e) {
+                result.setSuccessfulRecords(result.getSuccessfulRecords() - 1);
+                result.incrementFailed();
+                result.addError("Line " + importedLines.get(i) + ": " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+    }
+
+    /**
+     * Merge the imported messages into the existing display sequence and write it once.
+     * Existing rows keep their relative order; imported rows go after the existing rows
+     * of the same priority, in file order. Only existing rows whose position changes are
+     * updated, so an import never needs a follow-up recalculateAllDisplayOrders.
+     */
+    private void saveWithDisplayOrder(List<MessageBoard> importedMessages) {
+        List<DisplayOrderKey> sequence = new ArrayList<>();
+        for (Object[] row : messageBoardRepository.findDisplayOrderKeys()) {
+            sequence.add(new DisplayOrderKey((Long) row[0], (Integer) row[1], (Integer) row[2], null));
+        }
+        // Existing rows in their current order; nulls (never numbered) go last
+        sequence.sort(Comparator.comparing(DisplayOrderKey::priority, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(DisplayOrderKey::displayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(DisplayOrderKey::id));
+        for (MessageBoard message : importedMessages) {
+            sequence.add(new DisplayOrderKey(null, message.getPriority(), null, message));
+        }
+        // Stable sort by priority alone keeps existing rows ahead of imported ones within a priority
+        sequence.sort(Comparator.comparing(DisplayOrderKey::priority, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<Object[]> changedRows = new ArrayList<>();
+        for (int i = 0; i < sequence.size(); i++) {
+            DisplayOrderKey key = sequence.get(i);
+            int displayOrder = i + 1;
+            if (key.imported() != null) {
+                key.imported().setDisplayOrder(displayOrder);
+            } else if (key.displayOrder() == null || key.displayOrder() != displayOrder) {
+                changedRows.add(new Object[] { displayOrder, key.id() });
+            }
+        }
+
+        if (!changedRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE vrp_scrollmsg SET DISPLAY_ORDER = ? WHERE ID = ?", changedRows);
+        }
+        messageBoardRepository.saveAll(importedMessages);
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.MESSAGEBOARD));
+        logger.info("CSV import placed {} new messages; {} existing messages renumbered",
+                importedMessages.size(), changedRows.size());
+    }
+
+    // Position of one message in the merged sequence; imported is null for existing rows
+    private record DisplayOrderKey(Long id, Integer priority, Integer displayOrder, MessageBoard imported) {
+    }
+
+    /**
+     * Record row counts and duration; rows/sec is the rate of portal.migration.rows
+     */
+    private void recordMigrationMetrics(MigrationResult result, long elapsedNanos) {
+        meterRegistry.counter("portal.migration.rows", "result", "success").increment(result.getSuccessfulRecords());
+        meterRegistry.counter("portal.migration.rows", "result", "failed").increment(result.getFailedRecords());
+        meterRegistry.timer("portal.migration.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        logger.info("CSV migration finished: {} succeeded, {} failed in {} ms ({} rows/sec)",
+                result.getSuccessfulRecords(), result.getFailedRecords(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                seconds > 0 ? String.format("%.1f", result.getSuccessfulRecords() / seconds) : "n/a");
+    }
+
+    /**
+     * Create a MessageBoard entity from the fields of one CSV record
+     */
+    private MessageBoard parseCsvRecord(String[] fields) throws Exception {
         if (fields.length < 11) {
             throw new Exception("Invalid CSV format - expected 11 fields, got " + fields.length);
         }
@@ -120,7 +239,7 @@ public class DataMigrationService {
             // String originalMsgId = fields[0].trim();
             
             // Message content (required)
-            String message = fields[1].trim().replaceAll("^\"|\"$", ""); // Remove surrounding quotes
+            String message = fields[1].trim();
             if (message.isEmpty()) {
                 throw new Exception("Message content is required");
             }
@@ -149,7 +268,7 @@ public class DataMigrationService {
             // String dtstamp = fields[5].trim();
             
             // Message header (required)
-            String header = fields[6].trim().replaceAll("^\"|\"$", ""); // Remove surrounding quotes
+            String header = fields[6].trim();
             if (header.isEmpty()) {
                 throw new Exception("Message header is required");
             }
@@ -170,7 +289,7 @@ public class DataMigrationService {
             
             // Hindi message (optional)
             if (fields.length > 9) {
-                String messageHindi = fields[9].trim().replaceAll("^\"|\"$", "");
+                String messageHindi = fields[9].trim();
                 if (!messageHindi.isEmpty()) {
                     messageBoard.setMessageHindi(messageHindi);
                 }
@@ -178,17 +297,17 @@ public class DataMigrationService {
             
             // Hindi header (optional)
             if (fields.length > 10) {
-                String headerHindi = fields[10].trim().replaceAll("^\"|\"$", "");
+                String headerHindi = fields[10].trim();
                 if (!headerHindi.isEmpty()) {
                     messageBoard.setHeaderHindi(headerHindi);
                 }
             }
             
-            // Set default values for new fields
-            messageBoard.setDisplayOrder(lineNumber - 1); // Use line number as display order
-            messageBoard.setSpeed("normal");
-            messageBoard.setColor("#000000");
-            messageBoard.setBackgroundColor("#FFFFFF");
+            // Display settings: optional SPEED,COLOR,BGCOLOR columns written by the export,
+            // defaults otherwise (display order is assigned in saveWithDisplayOrder)
+            messageBoard.setSpeed(optionalField(fields, 11, "normal"));
+            messageBoard.setColor(optionalField(fields, 12, "#000000"));
+            messageBoard.setBackgroundColor(optionalField(fields, 13, "#FFFFFF"));
             
             // Set dates
             messageBoard.setCreatedDate(validFrom);
@@ -204,31 +323,76 @@ public class DataMigrationService {
         }
     }
 
+    private String optionalField(String[] fields, int index, String defaultValue) {
+        String value = fields.length > index ? fields[index].trim() : "";
+        return value.isEmpty() ? defaultValue : value;
+    }
+
     /**
-     * Parse CSV fields handling quoted strings properly
+     * Reads CSV records as in RFC 4180: quoted fields may contain commas, line breaks
+     * and doubled quotes (""), so one record can span several lines.
      */
-    private String[] parseCsvFields(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(currentField.toString());
-                currentField.setLength(0);
-            } else {
-                currentField.append(c);
+    private static class CsvRecordReader {
+        private final BufferedReader reader;
+        private int lineNumber;
+        private int startLine;
+
+        CsvRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        // Line the last record started on
+        int getStartLine() {
+            return startLine;
+        }
+
+        // Fields of the next record, or null at the end of the file
+        String[] next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            startLine = lineNumber;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder currentField = new StringBuilder();
+            boolean inQuotes = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+
+                    if (c == '"') {
+                        if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            currentField.append('"');
+                            i++;
+                        } else {
+                            inQuotes = !inQuotes;
+                        }
+                    } else if (c == ',' && !inQuotes) {
+                        fields.add(currentField.toString());
+                        currentField.setLength(0);
+                    } else {
+                        currentField.append(c);
+                    }
+                }
+                if (!inQuotes) {
+                    break;
+                }
+                // Line break inside a quoted field; an unterminated quote ends at end of file
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                lineNumber++;
+                currentField.append('\n');
             }
+
+            // Add the last field
+            fields.add(currentField.toString());
+
+            return fields.toArray(new String[0]);
         }
-        
-        // Add the last field
-        fields.add(currentField.toString());
-        
-        return fields.toArray(new String[0]);
     }
 
     /**
@@ -257,11 +421,13 @@ public class DataMigrationService {
      */
     public void clearAllMessageBoardData() {
         messageBoardRepository.deleteAll();
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.MESSAGEBOARD));
     }
 
     /**
      * Get migration statistics
      */
+    @Transactional(readOnly = true)
     public String getMigrationStatistics() {
         long totalMessages = messageBoardRepository.count();
         long activeMessages = messageBoardRepository.countByEnabledTrue();
@@ -0,0 +1,142 @@
+package com.refinery.portal.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.refinery.portal.dto.ReorderRequest;
+
+/**
+ * Rewrites the vrp_whatsnew or vrp_scrollmsg display sequence in the caller's transaction.
+ * The current (id, display order) pairs are read under a row lock, the new sequence is
+ * worked out in memory, and only rows whose DISPLAY_ORDER changes are written, with one
+ * UPDATE ... SET DISPLAY_ORDER = CASE ID WHEN ? THEN ? ... END per chunk of rows.
+ */
+@Component
+public class DisplayOrderWriter {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${portal.content.bulk-chunk-size:1000}")
+    private int chunkSize;
+
+    private record Position(long id, Integer displayOrder) {
+    }
+
+    /**
+     * Reorder the table; returns the number of rows renumbered.
+     * Throws IllegalArgumentException when the request does not fit the current rows.
+     */
+    public int reorder(String table, ReorderRequest request) {
+        boolean fullOrder = request.order() != null && !request.order().isEmpty();
+        boolean hasMoves = request.moves() != null && !request.moves().isEmpty();
+        if (fullOrder == hasMoves) {
+            throw new IllegalArgumentException("Send either the complete order or a list of moves");
+        }
+        return renumber(table, sequence -> {
+            if (fullOrder) {
+                checkCompleteOrder(sequence, request.order());
+                sequence.clear();
+                sequence.addAll(request.order());
+            } else {
+                applyMoves(sequence, request.moves());
+            }
+        });
+    }
+
+    /**
+     * Close gaps and duplicates (left by deletes) by numbering the rows 1..n in their
+     * current order; returns the number of rows renumbered. A single aggregate query
+     * decides whether anything needs doing.
+     */
+    public int compact(String table) {
+        Boolean sequential = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COUNT(DISTINCT DISPLAY_ORDER), MIN(DISPLAY_ORDER), MAX(DISPLAY_ORDER) FROM " + table,
+                (rs, rowNum) -> {
+                    long count = rs.getLong(1);
+                    return count == 0 || (rs.getLong(2) == count && rs.getLong(3) == 1 && rs.getLong(4) == count);
+                });
+        if (Boolean.TRUE.equals(sequential)) {
+            return 0;
+        }
+        return renumber(table, sequence -> { });
+    }
+
+    // Read the current sequence under a row lock, let planner rearrange it, write what moved
+    private int renumber(String table, Consumer<List<Long>> planner) {
+        // FOR UPDATE keeps concurrent reorders and saves from interleaving with this one
+        List<Position> current = jdbcTemplate.query("SELECT ID, DISPLAY_ORDER FROM " + table + " FOR UPDATE",
+                (rs, rowNum) -> new Position(rs.getLong(1), rs.getObject(2, Integer.class)));
+        current.sort(Comparator.comparing(Position::displayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Position::id));
+
+        List<Long> sequence = new ArrayList<>(current.size());
+        Map<Long, Integer> previous = new HashMap<>(current.size() * 2);
+        for (Position position : current) {
+            sequence.add(position.id());
+            previous.put(position.id(), position.displayOrder());
+        }
+        planner.accept(sequence);
+
+        List<Object[]> changed = new ArrayList<>();
+        for (int i = 0; i < sequence.size(); i++) {
+            Long id = sequence.get(i);
+            Integer displayOrder = i + 1;
+            if (!displayOrder.equals(previous.get(id))) {
+                changed.add(new Object[] { id, displayOrder });
+            }
+        }
+
+        for (int from = 0; from < changed.size(); from += chunkSize) {
+            writeChunk(table, changed.subList(from, Math.min(from + chunkSize, changed.size())));
+        }
+        return changed.size();
+    }
+
+    private void checkCompleteOrder(List<Long> currentIds, List<Long> order) {
+        Set<Long> listed = new HashSet<>(order);
+        if (order.size() != currentIds.size() || listed.size() != order.size() || !listed.containsAll(currentIds)) {
+            throw new IllegalArgumentException("The order must list each of the " + currentIds.size() +
+                    " items exactly once");
+        }
+    }
+
+    // Each move takes the item out and puts it back at its new position
+    private void applyMoves(List<Long> sequence, List<ReorderRequest.Move> moves) {
+        for (ReorderRequest.Move move : moves) {
+            if (move.id() == null || move.position() == null || !sequence.remove(move.id())) {
+                throw new IllegalArgumentException("Unknown item in move: " + move.id());
+            }
+            int index = Math.max(0, Math.min(move.position() - 1, sequence.size()));
+            sequence.add(index, move.id());
+        }
+    }
+
+    private void writeChunk(String table, List<Object[]> rows) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET DISPLAY_ORDER = CASE ID");
+        List<Object> args = new ArrayList<>(rows.size() * 3);
+        for (Object[] row : rows) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(row[0]);
+            args.add(row[1]);
+        }
+        sql.append(" END WHERE ID IN (");
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(rows.get(i)[0]);
+        }
+        sql.append(')');
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,158 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refinery.portal.dto.CalendarEntry;
+import com.refinery.portal.dto.CalendarView;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.CalendarEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Enabled calendar events in date-sorted maps (all events, and one map per category), so
+ * month, week and range views are a subMap walk with no SQL. Events are single-day, so a
+ * sorted map by date is the whole interval index. The snapshot is rebuilt lazily on the
+ * first read after a committed event change.
+ */
+@Component
+public class EventCalendarIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCalendarIndex.class);
+
+    // All-day events (no time) first, then by time and title
+    private static final Comparator<CalendarEntry> DAY_ORDER = Comparator
+            .comparing(CalendarEntry::eventTime, Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()))
+            .thenComparing(CalendarEntry::title, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(CalendarEntry::id);
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long version, NavigableMap<LocalDate, List<CalendarEntry>> byDate,
+                            Map<String, NavigableMap<LocalDate, List<CalendarEntry>>> byCategory,
+                            List<String> categories) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getContentType() == ContentChangedEvent.ContentType.EVENTS) {
+            version.incrementAndGet();
+        }
+    }
+
+    // One entry per day from..to (inclusive); days between periodStart and periodEnd are marked inPeriod
+    public CalendarView getView(LocalDate from, LocalDate to, LocalDate periodStart, LocalDate periodEnd, String category) {
+        Snapshot current = current();
+        NavigableMap<LocalDate, List<CalendarEntry>> index = current.byDate();
+        if (category != null && !category.isBlank()) {
+            index = current.byCategory().getOrDefault(categoryKey(category), Collections.emptyNavigableMap());
+        }
+        NavigableMap<LocalDate, List<CalendarEntry>> range = index.subMap(from, true, to, true);
+
+        List<CalendarView.Day> days = new ArrayList<>();
+        int eventCount = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<CalendarEntry> events = range.getOrDefault(date, List.of());
+            eventCount += events.size();
+            days.add(new CalendarView.Day(date, !date.isBefore(periodStart) && !date.isAfter(periodEnd), events));
+        }
+        return new CalendarView(from, to, category, eventCount, days);
+    }
+
+    // Events on or after the given date in date order, at most limit of them
+    public List<CalendarEntry> getUpcoming(LocalDate from, int limit) {
+        List<CalendarEntry> upcoming = new ArrayList<>();
+        for (List<CalendarEntry> events : current().byDate().tailMap(from, true).values()) {
+            for (CalendarEntry event : events) {
+                if (upcoming.size() == limit) {
+                    return upcoming;
+                }
+                upcoming.add(event);
+            }
+        }
+        return upcoming;
+    }
+
+    // Distinct categories of the enabled events, as entered
+    public List<String> getCategories() {
+        return current().categories();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.version() != version.get()) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild() {
+        long targetVersion = version.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == targetVersion) {
+            return current; // another thread rebuilt while we waited
+        }
+
+        List<CalendarEntry> entries = calendarEventRepository.findCalendarEntries();
+        Map<LocalDate, List<CalendarEntry>> byDate = new HashMap<>();
+        Map<String, Map<LocalDate, List<CalendarEntry>>> byCategory = new HashMap<>();
+        TreeSet<String> categories = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (CalendarEntry entry : entries) {
+            byDate.computeIfAbsent(entry.eventDate(), d -> new ArrayList<>()).add(entry);
+            if (entry.category() != null && !entry.category().isBlank()) {
+                categories.add(entry.category().strip());
+                byCategory.computeIfAbsent(categoryKey(entry.category()), c -> new HashMap<>())
+                        .computeIfAbsent(entry.eventDate(), d -> new ArrayList<>()).add(entry);
+            }
+        }
+        Map<String, NavigableMap<LocalDate, List<CalendarEntry>>> categoryIndexes = new HashMap<>();
+        byCategory.forEach((key, dates) -> categoryIndexes.put(key, sorted(dates)));
+
+        Snapshot rebuilt = new Snapshot(targetVersion, sorted(byDate), Map.copyOf(categoryIndexes), List.copyOf(categories));
+        snapshot = rebuilt;
+
+        meterRegistry.counter("portal.events.index.rebuilds").increment();
+        logger.debug("Event calendar index rebuilt: {} events on {} days, {} categories",
+                entries.size(), byDate.size(), categories.size());
+        return rebuilt;
+    }
+
+    private static NavigableMap<LocalDate, List<CalendarEntry>> sorted(Map<LocalDate, List<CalendarEntry>> byDate) {
+        TreeMap<LocalDate, List<CalendarEntry>> sorted = new TreeMap<>();
+        byDate.forEach((date, events) -> {
+            events.sort(DAY_ORDER);
+            sorted.put(date, List.copyOf(events));
+        });
+        return Collections.unmodifiableNavigableMap(sorted);
+    }
+
+    private static String categoryKey(String category) {
+        return category.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,126 @@
+package com.refinery.portal.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.dto.CalendarEntry;
+import com.refinery.portal.dto.CalendarView;
+import com.refinery.portal.entity.CalendarEvent;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.CalendarEventRepository;
+
+@Service
+@Transactional
+public class EventService {
+
+    // Longest range /events/api/range will expand day by day
+    public static final int MAX_RANGE_DAYS = 366;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private EventCalendarIndex eventCalendarIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Calendar views are served from EventCalendarIndex and must not hold a connection
+
+    // Month grid: whole weeks Monday to Sunday covering the month, answered from the index
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CalendarView getMonthView(YearMonth month, String category) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        return eventCalendarIndex.getView(first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                last.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)), first, last, category);
+    }
+
+    // Monday to Sunday week containing the given date
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CalendarView getWeekView(LocalDate date, String category) {
+        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate sunday = monday.plusDays(6);
+        return eventCalendarIndex.getView(monday, sunday, monday, sunday, category);
+    }
+
+    // Arbitrary inclusive range of at most MAX_RANGE_DAYS days
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CalendarView getRangeView(LocalDate from, LocalDate to, String category) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end is before its start");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to.plusDays(1))) {
+            throw new IllegalArgumentException("Range is longer than " + MAX_RANGE_DAYS + " days");
+        }
+        return eventCalendarIndex.getView(from, to, from, to, category);
+    }
+
+    // Next events from today on
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CalendarEntry> getUpcomingEvents(int limit) {
+        return eventCalendarIndex.getUpcoming(LocalDate.now(), limit);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> getCategories() {
+        return eventCalendarIndex.getCategories();
+    }
+
+    // Get all events with pagination, newest first
+    @Transactional(readOnly = true)
+    public Page<CalendarEvent> getAllEvents(int page, int size) {
+        return calendarEventRepository.findAllForManagement(PageRequest.of(page, size));
+    }
+
+    // Get event by ID
+    @Transactional(readOnly = true)
+    public Optional<CalendarEvent> getEventById(Long id) {
+        return calendarEventRepository.findById(id);
+    }
+
+    // Save or update event
+    public CalendarEvent saveEvent(CalendarEvent event) {
+        if (event.getId() == null) {
+            event.setCreatedDate(LocalDate.now());
+        }
+        event.setModifiedDate(LocalDate.now());
+        CalendarEvent saved = calendarEventRepository.save(event);
+        publishChange();
+        return saved;
+    }
+
+    // Delete event
+    public void deleteEvent(Long id) {
+        calendarEventRepository.deleteById(id);
+        publishChange();
+    }
+
+    // Toggle enabled status
+    public CalendarEvent toggleEnabled(Long id) {
+        CalendarEvent event = calendarEventRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+        event.setEnabled(!event.getEnabled());
+        event.setModifiedDate(LocalDate.now());
+        CalendarEvent saved = calendarEventRepository.save(event);
+        publishChange();
+        return saved;
+    }
+
+    // Event rows changed; the calendar index is rebuilt after commit
+    private void publishChange() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.EVENTS));
+    }
+}
@@ -0,0 +1,96 @@
+package com.refinery.portal.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Counts page hits per page and day in striped in-memory counters and adds them to
+ * hit_counters in one batched upsert per flush. Recording a hit never touches the
+ * database or takes a lock once the day's counter for the page exists.
+ */
+@Component
+public class HitCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(HitCounter.class);
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO hit_counters (PAGE_NAME, HIT_DATE, HIT_COUNT) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE HIT_COUNT = HIT_COUNT + ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private record HitKey(String pageName, LocalDate hitDate) {
+    }
+
+    private final Map<HitKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void record(String pageName) {
+        add(new HitKey(pageName, LocalDate.now()), 1);
+    }
+
+    private void add(HitKey key, long hits) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.add(hits);
+    }
+
+    @Scheduled(fixedDelayString = "${portal.hit-counter.flush-interval-ms:30000}")
+    public void flush() {
+        LocalDate today = LocalDate.now();
+        List<HitKey> keys = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<HitKey, LongAdder> entry : counters.entrySet()) {
+            HitKey key = entry.getKey();
+            long hits = entry.getValue().sumThenReset();
+            if (hits > 0) {
+                keys.add(key);
+                batch.add(new Object[] { key.pageName(), Date.valueOf(key.hitDate()), hits, hits });
+            } else if (key.hitDate().isBefore(today)) {
+                // A previous day's counter that stayed idle for a whole interval can go
+                counters.remove(key);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            meterRegistry.counter("portal.hit-counter.flushed-rows").increment(batch.size());
+            logger.debug("Flushed hit counts for {} pages", batch.size());
+        } catch (RuntimeException e) {
+            // Add the counts back so the next flush retries them
+            for (int i = 0; i < keys.size(); i++) {
+                add(keys.get(i), (Long) batch.get(i)[2]);
+            }
+            logger.warn("Failed to flush hit counts for {} pages: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,78 @@
+package com.refinery.portal.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Collects last-login times in memory and writes them to vrp_users in one JDBC batch,
+ * so a login only touches a map. Repeated logins by the same user between flushes
+ * collapse to the latest time. Pending times are flushed on shutdown.
+ */
+@Component
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // Keep the latest login per user until the next flush
+    public void record(String username, LocalDateTime loginTime) {
+        pending.merge(username, loginTime, (current, update) -> update.isAfter(current) ? update : current);
+    }
+
+    @Scheduled(fixedDelayString = "${portal.last-login.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (String username : pending.keySet()) {
+            LocalDateTime loginTime = pending.remove(username);
+            if (loginTime != null) {
+                batch.add(new Object[] { Timestamp.valueOf(loginTime), username });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE vrp_users SET last_login = ? WHERE username = ?", batch);
+            meterRegistry.counter("portal.last-login.writes").increment(batch.size());
+            logger.debug("Flushed last login for {} users", batch.size());
+        } catch (RuntimeException e) {
+            // Put the times back so the next flush retries them
+            for (Object[] row : batch) {
+                record((String) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+            logger.warn("Failed to flush last login times for {} users: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
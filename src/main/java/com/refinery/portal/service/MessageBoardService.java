@@ -3,19 +3,33 @@ package com.refinery.portal.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.refinery.portal.dto.DataTablesRequest;
+import com.refinery.portal.dto.DataTablesResponse;
+import com.refinery.portal.dto.MessageBoardRow;
+import com.refinery.portal.dto.ReorderRequest;
 import com.refinery.portal.entity.MessageBoard;
+import com.refinery.portal.event.ContentChangedEvent;
 import com.refinery.portal.repository.MessageBoardRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 @Transactional
 public class MessageBoardService {
@@ -23,15 +37,47 @@ public class MessageBoardService {
     @Autowired
     private MessageBoardRepository messageBoardRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TableCountCache tableCountCache;
+
+    @Autowired
+    private ActiveMessageIndex activeMessageIndex;
+
+    @Autowired
+    private DisplayOrderWriter displayOrderWriter;
+
+    @Value("${portal.content.bulk-chunk-size:1000}")
+    private int bulkChunkSize;
+
+    // DataTables column name -> entity property; anything else sorts by display order
+    private static final Map<String, String> TABLE_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "header", "header",
+            "priority", "priority",
+            "displayOrder", "displayOrder",
+            "validFrom", "validFrom",
+            "validTo", "validTo",
+            "enabled", "enabled",
+            "createdBy", "createdBy");
+
+    // Active messages are served from ActiveMessageIndex and must not hold a connection
+
     // Get all active messages
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MessageBoard> getAllActiveMessages() {
-        return messageBoardRepository.findActiveMessages();
+        return activeMessageIndex.getActive();
     }
 
     // Get active messages for display with pagination
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<MessageBoard> getActiveMessagesForDisplay(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return messageBoardRepository.findActiveMessagesForDisplay(pageable);
+        return activeMessageIndex.getPage(page, size);
     }
 
     // Get all messages with pagination (for management)
@@ -65,30 +111,35 @@ public class MessageBoardService {
     }
 
     // Get messages by date range
+    @Transactional(readOnly = true)
     public Page<MessageBoard> getMessagesByDateRange(LocalDate fromDate, LocalDate toDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return messageBoardRepository.findByValidFromBetween(fromDate, toDate, pageable);
     }
 
     // Search messages by header
+    @Transactional(readOnly = true)
     public Page<MessageBoard> searchByHeader(String header, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return messageBoardRepository.findByHeaderContainingIgnoreCase(header, pageable);
     }
 
     // Search messages by content
+    @Transactional(readOnly = true)
     public Page<MessageBoard> searchByMessage(String message, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return messageBoardRepository.findByMessageContainingIgnoreCase(message, pageable);
     }
 
     // General search (header or message)
+    @Transactional(readOnly = true)
     public Page<MessageBoard> search(String searchTerm, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return messageBoardRepository.findByHeaderOrMessageContainingIgnoreCase(searchTerm, pageable);
     }
 
     // Search messages with enabled filter and pagination
+    @Transactional(readOnly = true)
     public Page<MessageBoard> searchMessages(String searchTerm, Boolean enabled, Pageable pageable) {
         if (enabled != null) {
             return messageBoardRepository.findByHeaderOrMessageContainingIgnoreCaseAndEnabled(searchTerm, enabled, pageable);
@@ -98,6 +149,7 @@ public class MessageBoardService {
     }
 
     // Search messages returning list (for API)
+    @Transactional(readOnly = true)
     public List<MessageBoard> searchMessagesList(String searchTerm, Boolean enabled) {
         if (enabled != null) {
             return messageBoardRepository.findByHeaderOrMessageContainingIgnoreCaseAndEnabled(searchTerm, enabled);
@@ -107,6 +159,7 @@ public class MessageBoardService {
     }
 
     // Get messages by priority
+    @Transactional(readOnly = true)
     public Page<MessageBoard> getMessagesByPriority(Integer priority, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         List<MessageBoard> messages = messageBoardRepository.findByPriorityOrderByDisplayOrder(priority);
@@ -118,12 +171,45 @@ public class MessageBoardService {
     }
 
     // Get message by ID
+    @Transactional(readOnly = true)
     public Optional<MessageBoard> getMessageById(Long id) {
         return messageBoardRepository.findById(id);
     }
 
+    // One page of the management table for the DataTables server-side protocol
+    @Transactional(readOnly = true)
+    public DataTablesResponse<MessageBoardRow> getTablePage(DataTablesRequest request) {
+        String property = request.getOrderColumn() != null
+                ? TABLE_SORT_COLUMNS.getOrDefault(request.getOrderColumn(), "displayOrder")
+                : "displayOrder";
+        Sort.Direction direction = request.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // id as tiebreaker keeps the order total, so pages never overlap or skip rows
+        Sort sort = Sort.by(direction, property).and(Sort.by(direction, "id"));
+        Pageable pageable = request.toPageable(sort);
+
+        long total = tableCountCache.getTotal(ContentChangedEvent.ContentType.MESSAGEBOARD, messageBoardRepository::count);
+        if (request.getSearch() == null) {
+            return new DataTablesResponse<>(request.getDraw(), total, total, messageBoardRepository.findTableRows(pageable));
+        }
+        return new DataTablesResponse<>(request.getDraw(), total,
+                messageBoardRepository.countTableRows(request.getSearch()),
+                messageBoardRepository.searchTableRows(request.getSearch(), pageable));
+    }
+
     // Save message with priority management
     public MessageBoard saveMessage(MessageBoard messageBoard) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String operation = messageBoard.getId() == null ? "create" : "update";
+        try {
+            MessageBoard saved = doSaveMessage(messageBoard);
+            publishChange();
+            return saved;
+        } finally {
+            sample.stop(meterRegistry.timer("portal.content.save", "type", "messageboard", "operation", operation));
+        }
+    }
+
+    private MessageBoard doSaveMessage(MessageBoard messageBoard) {
         if (messageBoard.getId() == null) {
             // New message - handle priority ordering
             handlePriorityForNewMessage(messageBoard);
@@ -193,6 +279,7 @@ public class MessageBoardService {
     private void shiftMessagesAfterPosition(Integer targetPriority, Integer fromPosition) {
         // Get all messages that should come after this position
         List<MessageBoard> allMessages = messageBoardRepository.findAll();
+        int shifted = 0;
         
         for (MessageBoard message : allMessages) {
             if (message.getDisplayOrder() != null && message.getDisplayOrder() >= fromPosition) {
@@ -200,47 +287,67 @@ public class MessageBoardService {
                 if (!message.getPriority().equals(targetPriority) || message.getDisplayOrder() > fromPosition) {
                     message.setDisplayOrder(message.getDisplayOrder() + 1);
                     messageBoardRepository.save(message);
+                    shifted++;
                 }
             }
         }
+        recordShiftedRows(shifted);
     }
 
     private void shiftMessagesDownAfterRemoval(Integer removedPosition) {
         // Get all messages that come after the removed position
         List<MessageBoard> allMessages = messageBoardRepository.findAll();
+        int shifted = 0;
         
         for (MessageBoard message : allMessages) {
             if (message.getDisplayOrder() != null && message.getDisplayOrder() > removedPosition) {
                 message.setDisplayOrder(message.getDisplayOrder() - 1);
                 messageBoardRepository.save(message);
+                shifted++;
             }
         }
+        recordShiftedRows(shifted);
+    }
+
+    // Rows rewritten by display order maintenance (write amplification of a single save)
+    private void recordShiftedRows(int shifted) {
+        meterRegistry.counter("portal.content.reorder.rows", "type", "messageboard").increment(shifted);
     }
 
-    // Delete message
+    // Message Board rows changed; listeners act after commit
+    private void publishChange() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.MESSAGEBOARD));
+    }
+
+    // Delete message and close the gap it leaves in the display order
     public void deleteMessage(Long id) {
         messageBoardRepository.deleteById(id);
+        compactDisplayOrders();
+        publishChange();
     }
 
     // Check if message exists
+    @Transactional(readOnly = true)
     public boolean messageExists(Long id) {
         return messageBoardRepository.existsById(id);
     }
 
     // Count active messages
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long countActiveMessages() {
-        return messageBoardRepository.countActiveMessages();
+        return activeMessageIndex.count();
     }
 
     // Get messages for scrolling display
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MessageBoard> getMessagesForScrolling() {
-        return messageBoardRepository.findMessagesForScrolling();
+        return activeMessageIndex.getActive();
     }
 
     // Get top N active messages for dashboard
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MessageBoard> getTopActiveMessages(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return messageBoardRepository.findActiveMessagesForDisplay(pageable).getContent();
+        return activeMessageIndex.getTop(limit);
     }
 
     // Bulk operations
@@ -251,10 +358,45 @@ public class MessageBoardService {
         System.out.println("About to delete " + ids.size() + " messages");
         
         messageBoardRepository.deleteAllById(ids);
+        compactDisplayOrders();
+        publishChange();
         
         System.out.println("Deletion completed");
     }
 
+    // Toggle enabled status with a single UPDATE; returns the new status
+    public boolean toggleEnabled(Long id) {
+        if (messageBoardRepository.toggleEnabled(id, LocalDate.now()) == 0) {
+            throw new RuntimeException("Message not found with id: " + id);
+        }
+        publishChange();
+        return messageBoardRepository.findEnabledById(id);
+    }
+
+    // Returns the number of messages updated
+    public int enableMessages(List<Long> ids) {
+        return updateEnabled(ids, true);
+    }
+
+    public int disableMessages(List<Long> ids) {
+        return updateEnabled(ids, false);
+    }
+
+    // One UPDATE ... WHERE ID IN (...) per chunk of ids, then a single change event
+    private int updateEnabled(List<Long> ids, boolean enabled) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        LocalDate today = LocalDate.now();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + bulkChunkSize, distinctIds.size()));
+            updated += messageBoardRepository.updateEnabled(chunk, enabled, today);
+        }
+        if (updated > 0) {
+            publishChange();
+        }
+        return updated;
+    }
+
     /**
      * Recalculate all display orders to ensure global sequential numbering
      * This method can be called to fix any inconsistencies in the numbering system
@@ -283,6 +425,8 @@ public class MessageBoardService {
             message.setDisplayOrder(i + 1);
             messageBoardRepository.save(message);
         }
+        recordShiftedRows(allMessages.size());
+        publishChange();
     }
 
     /**
@@ -291,13 +435,34 @@ public class MessageBoardService {
     @Transactional
     public void initializeDisplayOrdersIfNeeded() {
         // Check if there are any messages without display orders
-        List<MessageBoard> messagesWithoutOrder = messageBoardRepository.findAll()
-            .stream()
-            .filter(m -> m.getDisplayOrder() == null)
-            .collect(java.util.stream.Collectors.toList());
-        
-        if (!messagesWithoutOrder.isEmpty()) {
+        if (messageBoardRepository.countByDisplayOrderIsNull() > 0) {
             recalculateAllDisplayOrders();
         }
     }
+
+    /**
+     * Close gaps and duplicates in the display order (after deletes and archiving) by numbering
+     * the messages 1..n in their current order, so a manual reorder is kept. Write paths only: it
+     * locks the table's rows. Returns the number of messages renumbered; the caller publishes the change.
+     */
+    public int compactDisplayOrders() {
+        // Pending JPA deletes must reach the table before it is renumbered with JDBC
+        messageBoardRepository.flush();
+        int renumbered = displayOrderWriter.compact("vrp_scrollmsg");
+        recordShiftedRows(renumbered);
+        return renumbered;
+    }
+
+    /**
+     * Apply a drag-and-drop reorder in one transaction; returns the number of messages renumbered.
+     * Priorities are left as they are; they only place new or re-prioritised messages.
+     */
+    public int reorder(ReorderRequest request) {
+        int renumbered = displayOrderWriter.reorder("vrp_scrollmsg", request);
+        recordShiftedRows(renumbered);
+        if (renumbered > 0) {
+            publishChange();
+        }
+        return renumbered;
+    }
 } 
\ No newline at end of file
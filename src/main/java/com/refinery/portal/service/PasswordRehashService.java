@@ -0,0 +1,81 @@
+package com.refinery.portal.service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Re-encodes passwords whose stored hash no longer matches the current policy (legacy
+ * unprefixed hashes, or a lower bcrypt strength) after a successful login. Runs on one
+ * background thread with a small queue; when the queue is full the upgrade is skipped
+ * and simply happens on a later login.
+ */
+@Service
+public class PasswordRehashService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "password-rehash");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    // Queue an upgrade of oldHash; encoder is the full (bounded) encoder so the rehash counts against the hashing limit
+    public void rehashLater(CharSequence rawPassword, String oldHash, PasswordEncoder encoder) {
+        String raw = rawPassword.toString();
+        executor.execute(() -> rehash(raw, oldHash, encoder));
+    }
+
+    private void rehash(String rawPassword, String oldHash, PasswordEncoder encoder) {
+        try {
+            List<String> usernames = jdbcTemplate.queryForList(
+                    "SELECT username FROM vrp_users WHERE password = ?", String.class, oldHash);
+            if (usernames.isEmpty()) {
+                return; // already upgraded or changed
+            }
+            // Compare-and-set on the old hash so a concurrent password change wins
+            int updated = jdbcTemplate.update("UPDATE vrp_users SET password = ? WHERE password = ?",
+                    encoder.encode(rawPassword), oldHash);
+            if (updated > 0) {
+                Cache users = cacheManager.getCache(UserService.USER_CACHE);
+                if (users != null) {
+                    usernames.forEach(username -> users.evict(UserService.cacheKey(username)));
+                }
+                meterRegistry.counter("portal.password.rehash").increment(updated);
+                logger.info("Upgraded password hash for {}", usernames);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Password rehash failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,166 @@
+package com.refinery.portal.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refinery.portal.entity.PortalInfo;
+import com.refinery.portal.entity.PortalMessageType;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.PortalInfoRepository;
+import com.refinery.portal.repository.PortalMessageTypeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Enabled vrp_portal_info values and pinfo_mtype styles as immutable maps, so request-path
+ * reads are a map lookup with no lock or SQL. The snapshot is rebuilt lazily after a
+ * committed settings change on this instance; a periodic reload of the (small) tables picks
+ * up changes made elsewhere and swaps the snapshot only when something differs.
+ */
+@Component
+public class PortalSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortalSettings.class);
+
+    public static final String DASHBOARD_WHATSNEW_LIMIT = "DASHBOARD_WHATSNEW_LIMIT";
+    public static final String DASHBOARD_MESSAGE_LIMIT = "DASHBOARD_MESSAGE_LIMIT";
+
+    private static final int DEFAULT_DASHBOARD_LIMIT = 5;
+    private static final int MAX_DASHBOARD_LIMIT = 50;
+
+    @Autowired
+    private PortalInfoRepository portalInfoRepository;
+
+    @Autowired
+    private PortalMessageTypeRepository portalMessageTypeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    // Display style of a pinfo_mtype row
+    public record MessageType(String code, String name, String iconClass, String colorClass) {
+    }
+
+    private record Snapshot(long version, Map<String, String> values, Map<String, MessageType> messageTypes) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getContentType() == ContentChangedEvent.ContentType.SETTINGS) {
+            version.incrementAndGet();
+        }
+    }
+
+    // Value of an enabled setting, or defaultValue if it is missing or disabled
+    public String getString(String key, String defaultValue) {
+        return current().values().getOrDefault(key, defaultValue);
+    }
+
+    // Whole-number setting; defaultValue if missing or not a number
+    public int getInt(String key, int defaultValue) {
+        String value = current().values().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = current().values().get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.strip());
+    }
+
+    // Number of What's New items on the dashboard
+    public int getDashboardWhatsNewLimit() {
+        return dashboardLimit(DASHBOARD_WHATSNEW_LIMIT);
+    }
+
+    // Number of Message Board items on the dashboard
+    public int getDashboardMessageLimit() {
+        return dashboardLimit(DASHBOARD_MESSAGE_LIMIT);
+    }
+
+    public MessageType getMessageType(String code) {
+        return code == null ? null : current().messageTypes().get(code.toUpperCase());
+    }
+
+    public Map<String, MessageType> getMessageTypes() {
+        return current().messageTypes();
+    }
+
+    // All enabled settings (read-only view)
+    public Map<String, String> getAll() {
+        return current().values();
+    }
+
+    // Reload from the database and keep the snapshot unless the contents changed (edits by other instances)
+    @Scheduled(fixedDelayString = "${portal.settings.refresh-interval-ms:60000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // nothing read yet; the first read loads
+        }
+        Snapshot loaded = load(current.version());
+        if (!loaded.values().equals(current.values()) || !loaded.messageTypes().equals(current.messageTypes())) {
+            version.incrementAndGet();
+            logger.info("Portal settings changed in the database; reloading");
+        }
+    }
+
+    private int dashboardLimit(String key) {
+        return Math.max(1, Math.min(getInt(key, DEFAULT_DASHBOARD_LIMIT), MAX_DASHBOARD_LIMIT));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.version() != version.get()) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild() {
+        long targetVersion = version.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == targetVersion) {
+            return current; // another thread rebuilt while we waited
+        }
+        snapshot = load(targetVersion);
+        meterRegistry.counter("portal.settings.reloads").increment();
+        logger.debug("Loaded {} portal settings", snapshot.values().size());
+        return snapshot;
+    }
+
+    private Snapshot load(long targetVersion) {
+        Map<String, String> values = new HashMap<>();
+        for (PortalInfo info : portalInfoRepository.findEnabled()) {
+            if (info.getInfoValue() != null) {
+                values.put(info.getInfoKey(), info.getInfoValue());
+            }
+        }
+        Map<String, MessageType> messageTypes = new LinkedHashMap<>();
+        for (PortalMessageType type : portalMessageTypeRepository.findEnabled()) {
+            messageTypes.put(type.getTypeCode().toUpperCase(),
+                    new MessageType(type.getTypeCode(), type.getTypeName(), type.getIconClass(), type.getColorClass()));
+        }
+        return new Snapshot(targetVersion, Map.copyOf(values), Collections.unmodifiableMap(messageTypes));
+    }
+}
@@ -0,0 +1,63 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.entity.PortalInfo;
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.repository.PortalInfoRepository;
+
+@Service
+@Transactional
+public class PortalSettingsService {
+
+    @Autowired
+    private PortalInfoRepository portalInfoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Get all settings, enabled or not, for management
+    @Transactional(readOnly = true)
+    public List<PortalInfo> getAllSettings() {
+        return portalInfoRepository.findAllOrdered();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PortalInfo> getSetting(String key) {
+        return portalInfoRepository.findByInfoKey(key);
+    }
+
+    // Set a value, creating the setting if the key is new
+    public PortalInfo saveValue(String key, String value) {
+        PortalInfo info = portalInfoRepository.findByInfoKey(key)
+                .orElseGet(() -> new PortalInfo(key, null, "STRING", "GENERAL", null));
+        info.setInfoValue(value);
+        info.setModifiedDate(LocalDate.now());
+        PortalInfo saved = portalInfoRepository.save(info);
+        publishChange();
+        return saved;
+    }
+
+    // Toggle enabled status; a disabled setting reads as its default
+    public PortalInfo toggleEnabled(String key) {
+        PortalInfo info = portalInfoRepository.findByInfoKey(key)
+                .orElseThrow(() -> new RuntimeException("Setting not found: " + key));
+        info.setEnabled(!info.getEnabled());
+        info.setModifiedDate(LocalDate.now());
+        PortalInfo saved = portalInfoRepository.save(info);
+        publishChange();
+        return saved;
+    }
+
+    // Setting rows changed; PortalSettings reloads after commit
+    private void publishChange() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.SETTINGS));
+    }
+}
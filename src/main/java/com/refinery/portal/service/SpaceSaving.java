@@ -0,0 +1,120 @@
+package com.refinery.portal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-K summary: tracks at most capacity keys, and a new key evicts the
+ * smallest counter and inherits its count as the error bound. Any key seen more than
+ * total/capacity times is guaranteed to be present.
+ */
+class SpaceSaving {
+
+    // toBytes writes the counter count as an unsigned short
+    static final int MAX_CAPACITY = 0xFFFF;
+
+    record Entry(String key, long count, long error) {
+    }
+
+    private final int capacity;
+    private final Map<String, long[]> counters = new HashMap<>();
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    synchronized void offer(String key) {
+        add(key, 1, 0);
+    }
+
+    // Adds the other summary's counts; the result keeps the largest capacity counters
+    synchronized void merge(SpaceSaving other) {
+        for (Entry entry : other.entries()) {
+            long[] counter = counters.get(entry.key());
+            if (counter != null) {
+                counter[0] += entry.count();
+                counter[1] += entry.error();
+            } else {
+                counters.put(entry.key(), new long[] { entry.count(), entry.error() });
+            }
+        }
+        while (counters.size() > capacity) {
+            counters.remove(minimumKey());
+        }
+    }
+
+    synchronized List<Entry> entries() {
+        return counters.entrySet().stream()
+                .map(e -> new Entry(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .sorted(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key))
+                .toList();
+    }
+
+    private void add(String key, long count, long error) {
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0] += count;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new long[] { count, error });
+            return;
+        }
+        long[] evicted = counters.remove(minimumKey());
+        counters.put(key, new long[] { evicted[0] + count, evicted[0] });
+    }
+
+    private String minimumKey() {
+        String minimum = null;
+        long minimumCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> e : counters.entrySet()) {
+            if (e.getValue()[0] < minimumCount) {
+                minimum = e.getKey();
+                minimumCount = e.getValue()[0];
+            }
+        }
+        return minimum;
+    }
+
+    synchronized byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(counters.size());
+            for (Entry entry : entries()) {
+                out.writeUTF(entry.key());
+                out.writeLong(entry.count());
+                out.writeLong(entry.error());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static SpaceSaving fromBytes(byte[] data, int capacity) {
+        SpaceSaving summary = new SpaceSaving(capacity);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int size = in.readUnsignedShort();
+            for (int i = 0; i < size; i++) {
+                summary.counters.put(in.readUTF(), new long[] { in.readLong(), in.readLong() });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        while (summary.counters.size() > capacity) {
+            summary.counters.remove(summary.minimumKey());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,43 @@
+package com.refinery.portal.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refinery.portal.event.ContentChangedEvent;
+import com.refinery.portal.event.ContentChangedEvent.ContentType;
+
+/**
+ * Unfiltered row counts for the management tables, kept until the next committed change
+ * of that content type. A count computed while a change was committing is not stored.
+ */
+@Component
+public class TableCountCache {
+
+    private final AtomicLongArray versions = new AtomicLongArray(ContentType.values().length);
+
+    private final AtomicReferenceArray<long[]> counts = new AtomicReferenceArray<>(ContentType.values().length);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        versions.incrementAndGet(event.getContentType().ordinal());
+    }
+
+    // Cached count for the content type, computed with counter on a miss
+    public long getTotal(ContentType type, LongSupplier counter) {
+        int slot = type.ordinal();
+        long version = versions.get(slot);
+        long[] cached = counts.get(slot);
+        if (cached != null && cached[0] == version) {
+            return cached[1];
+        }
+        long total = counter.getAsLong();
+        if (versions.get(slot) == version) {
+            counts.set(slot, new long[] { version, total });
+        }
+        return total;
+    }
+}
@@ -0,0 +1,331 @@
+package com.refinery.portal.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.refinery.portal.entity.MessageBoard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Active scrolling messages pre-serialized as UTF-8 JSON arrays in direct ByteBuffers.
+ * The kiosk endpoint copies a buffer to the response without touching entities or Jackson.
+ *
+ * Three variants are kept: ALL (the full entity with both languages, as before) and one
+ * per language with only that language's header and message, falling back to English
+ * where the Hindi text is missing. Each variant also has a gzip copy, and each message's
+ * slice of a variant is indexed by id (sorted long[] with offset/length arrays).
+ *
+ * The snapshot is rebuilt lazily on the first read after ActiveMessageIndex moves to a new
+ * generation, i.e. after a committed Message Board change or after midnight.
+ */
+@Service
+public class TickerStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TickerStore.class);
+
+    private static final List<String> SUPPORTED_LANGUAGE_TAGS = List.of("en", "hi");
+
+    public enum Language {
+        ALL(null), EN("en"), HI("hi");
+
+        private final String tag;
+
+        Language(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Pick the payload language: an explicit lang parameter wins (en, hi or all), then the
+     * best Accept-Language match, then English. Without either, the bilingual payload is served.
+     */
+    public static Language resolveLanguage(String lang, String acceptLanguage) {
+        if (lang != null && !lang.isBlank()) {
+            switch (lang.trim().toLowerCase(Locale.ROOT)) {
+                case "hi": return Language.HI;
+                case "all": return Language.ALL;
+                default: return Language.EN;
+            }
+        }
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return Language.ALL;
+        }
+        try {
+            String tag = Locale.lookupTag(Locale.LanguageRange.parse(acceptLanguage), SUPPORTED_LANGUAGE_TAGS);
+            return "hi".equals(tag) ? Language.HI : Language.EN;
+        } catch (IllegalArgumentException e) {
+            return Language.EN;
+        }
+    }
+
+    /**
+     * Whether Accept-Encoding allows gzip: a gzip (or x-gzip) coding with a non-zero q-value,
+     * or a non-zero "*" when gzip is not listed. "gzip;q=0" refuses it.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    // q parameter of one Accept-Encoding element; 1 when absent, 0 when malformed
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q'
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // One language's view of a message; the field names match MessageBoard's JSON
+    record TickerMessage(Long id, String header, String message, String language,
+                         LocalDate validFrom, LocalDate validTo, Integer priority, Integer displayOrder,
+                         String speed, String color, String backgroundColor) {
+
+        static TickerMessage of(MessageBoard m, Language language) {
+            boolean hindiMessage = language == Language.HI && hasText(m.getMessageHindi());
+            boolean hindiHeader = language == Language.HI && hasText(m.getHeaderHindi());
+            return new TickerMessage(m.getId(),
+                    hindiHeader ? m.getHeaderHindi() : m.getHeader(),
+                    hindiMessage ? m.getMessageHindi() : m.getMessage(),
+                    hindiMessage ? "hi" : "en",
+                    m.getValidFrom(), m.getValidTo(), m.getPriority(), m.getDisplayOrder(),
+                    m.getSpeed(), m.getColor(), m.getBackgroundColor());
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isBlank();
+        }
+    }
+
+    @Autowired
+    private ActiveMessageIndex activeMessageIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot;
+
+    // Immutable view shared by all readers; each write works on a duplicate() of a buffer
+    private static final class Snapshot {
+        final long generation;
+        final Map<Language, Encoded> variants;
+
+        Snapshot(long generation, Map<Language, Encoded> variants) {
+            this.generation = generation;
+            this.variants = variants;
+        }
+    }
+
+    // One serialized variant of the active messages
+    private static final class Encoded {
+        final ByteBuffer json;
+        final ByteBuffer gzip;
+        final long[] ids;
+        final int[] offsets;
+        final int[] lengths;
+
+        Encoded(ByteBuffer json, ByteBuffer gzip, long[] ids, int[] offsets, int[] lengths) {
+            this.json = json;
+            this.gzip = gzip;
+            this.ids = ids;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+    }
+
+    /**
+     * A slice of the current snapshot; length and bytes always come from the same snapshot.
+     */
+    public static final class Payload {
+        private final ByteBuffer bytes;
+        private final boolean gzip;
+
+        Payload(ByteBuffer bytes, boolean gzip) {
+            this.bytes = bytes;
+            this.gzip = gzip;
+        }
+
+        public int getLength() {
+            return bytes.remaining();
+        }
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            ByteBuffer slice = bytes.duplicate();
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (slice.hasRemaining()) {
+                channel.write(slice);
+            }
+        }
+    }
+
+    // JSON array of all active messages in display order, gzip-compressed if requested
+    public Payload getActiveMessages(Language language, boolean gzip) {
+        Encoded encoded = current().variants.get(language);
+        return gzip ? new Payload(encoded.gzip, true) : new Payload(encoded.json, false);
+    }
+
+    // JSON object of one active message, or null if the id is not active
+    public Payload getMessage(long id, Language language) {
+        Encoded encoded = current().variants.get(language);
+        int index = Arrays.binarySearch(encoded.ids, id);
+        if (index < 0) {
+            return null;
+        }
+        ByteBuffer slice = encoded.json.duplicate();
+        slice.position(encoded.offsets[index]).limit(encoded.offsets[index] + encoded.lengths[index]);
+        return new Payload(slice, false);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation != activeMessageIndex.getGeneration()) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild() {
+        ActiveContentIndex.View<MessageBoard> active = activeMessageIndex.getView();
+        Snapshot current = snapshot;
+        if (current != null && current.generation == active.generation()) {
+            return current; // another thread rebuilt while we waited
+        }
+
+        List<MessageBoard> messages = active.items();
+        Map<Language, Encoded> variants = new EnumMap<>(Language.class);
+        try {
+            for (Language language : Language.values()) {
+                variants.put(language, encode(messages, language));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize scrolling messages", e);
+        }
+
+        Snapshot rebuilt = new Snapshot(active.generation(), variants);
+        snapshot = rebuilt;
+
+        meterRegistry.counter("portal.ticker.rebuilds").increment();
+        logger.debug("Ticker store rebuilt: {} messages, {} bytes (all), {} bytes (en), {} bytes (hi)",
+                messages.size(), variants.get(Language.ALL).json.limit(),
+                variants.get(Language.EN).json.limit(), variants.get(Language.HI).json.limit());
+        return rebuilt;
+    }
+
+    private Encoded encode(List<MessageBoard> messages, Language language) throws IOException {
+        byte[][] encoded = new byte[messages.size()][];
+        int total = 2 + Math.max(0, messages.size() - 1);
+        for (int i = 0; i < messages.size(); i++) {
+            encoded[i] = serialize(messages.get(i), language);
+            total += encoded[i].length;
+        }
+
+        // Lay out "[m1,m2,...]" and remember where each message sits
+        ByteBuffer json = ByteBuffer.allocateDirect(total);
+        long[] ids = new long[messages.size()];
+        int[] offsets = new int[messages.size()];
+        int[] lengths = new int[messages.size()];
+        json.put((byte) '[');
+        for (int i = 0; i < encoded.length; i++) {
+            if (i > 0) {
+                json.put((byte) ',');
+            }
+            ids[i] = messages.get(i).getId();
+            offsets[i] = json.position();
+            lengths[i] = encoded[i].length;
+            json.put(encoded[i]);
+        }
+        json.put((byte) ']');
+        json.flip();
+
+        sortIndexById(ids, offsets, lengths);
+        return new Encoded(json.asReadOnlyBuffer(), gzip(json.duplicate()), ids, offsets, lengths);
+    }
+
+    private byte[] serialize(MessageBoard message, Language language) throws JsonProcessingException {
+        return language == Language.ALL
+                ? objectMapper.writeValueAsBytes(message)
+                : objectMapper.writeValueAsBytes(TickerMessage.of(message, language));
+    }
+
+    private static ByteBuffer gzip(ByteBuffer json) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.remaining() / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            Channels.newChannel(out).write(json);
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(compressed.size());
+        direct.put(compressed.toByteArray()).flip();
+        return direct.asReadOnlyBuffer();
+    }
+
+    // Messages arrive in display order; sort the three index arrays together by id for binary search
+    private static void sortIndexById(long[] ids, int[] offsets, int[] lengths) {
+        Integer[] order = new Integer[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+        long[] sortedIds = new long[ids.length];
+        int[] sortedOffsets = new int[ids.length];
+        int[] sortedLengths = new int[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedOffsets[i] = offsets[order[i]];
+            sortedLengths[i] = lengths[order[i]];
+        }
+        System.arraycopy(sortedIds, 0, ids, 0, ids.length);
+        System.arraycopy(sortedOffsets, 0, offsets, 0, ids.length);
+        System.arraycopy(sortedLengths, 0, lengths, 0, ids.length);
+    }
+}
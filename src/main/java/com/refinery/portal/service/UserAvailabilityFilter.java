@@ -0,0 +1,157 @@
+package com.refinery.portal.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory bloom filters of existing usernames and emails for the registration form's
+ * availability checks. A filter miss means the value is definitely unused and is answered
+ * without a query; a possible hit is confirmed against the database. Keys are lower-cased
+ * and accent-folded so the filter never says "absent" for a value the case- and
+ * accent-insensitive MariaDB collation would consider taken.
+ */
+@Component
+public class UserAvailabilityFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${portal.user-availability.enabled:true}")
+    private boolean enabled;
+
+    private volatile Filters filters;
+
+    // Registrations committed while a rebuild is reading the table, replayed into the new filters
+    private volatile boolean building;
+    private final Queue<String[]> addedDuringBuild = new ConcurrentLinkedQueue<>();
+
+    private record Filters(BloomFilter usernames, BloomFilter emails, AtomicLong size) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // Periodic rebuild picks up users created outside this instance (other nodes, SQL scripts)
+    @Scheduled(fixedDelayString = "${portal.user-availability.rebuild-interval-ms:3600000}",
+               initialDelayString = "${portal.user-availability.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        building = true;
+        addedDuringBuild.clear();
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vrp_users", Long.class);
+            long capacity = Math.max(MIN_CAPACITY, (count == null ? 0 : count) * 2);
+            BloomFilter usernames = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+            BloomFilter emails = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+            long[] loaded = new long[1];
+            jdbcTemplate.query("SELECT username, email FROM vrp_users", rs -> {
+                usernames.put(normalize(rs.getString(1)));
+                emails.put(normalize(rs.getString(2)));
+                loaded[0]++;
+            });
+            Filters rebuilt = new Filters(usernames, emails, new AtomicLong(loaded[0]));
+            filters = rebuilt;
+            building = false;
+            String[] added;
+            while ((added = addedDuringBuild.poll()) != null) {
+                rebuilt.usernames().put(added[0]);
+                rebuilt.emails().put(added[1]);
+            }
+            meterRegistry.counter("portal.user-availability.rebuilds").increment();
+            logger.info("User availability filters built from {} users (capacity {})", loaded[0], capacity);
+        } catch (RuntimeException e) {
+            // Keep the previous filters; without any, every check falls through to the database
+            logger.warn("Could not build user availability filters: {}", e.getMessage());
+        } finally {
+            building = false;
+        }
+    }
+
+    // False only when the username is certainly not taken
+    public boolean mightContainUsername(String username) {
+        Filters current = filters;
+        return record(current == null || current.usernames().mightContain(normalize(username)));
+    }
+
+    // False only when the email is certainly not taken
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return record(current == null || current.emails().mightContain(normalize(email)));
+    }
+
+    // Add a newly saved user once its transaction commits, so a rebuild never loses it
+    public void add(String username, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(username, email);
+                }
+            });
+        } else {
+            addNow(username, email);
+        }
+    }
+
+    private void addNow(String username, String email) {
+        String[] keys = { normalize(username), normalize(email) };
+        if (building) {
+            addedDuringBuild.add(keys);
+        }
+        Filters current = filters;
+        if (current == null) {
+            return;
+        }
+        current.usernames().put(keys[0]);
+        current.emails().put(keys[1]);
+        if (current.size().incrementAndGet() >= current.usernames().getCapacity()) {
+            // Grown well past the sizing at build time; the false positive rate is climbing
+            rebuild();
+        }
+    }
+
+    private boolean record(boolean mightContain) {
+        meterRegistry.counter("portal.user-availability.checks",
+                "result", mightContain ? "database" : "filtered").increment();
+        return mightContain;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(value.strip(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return folded.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,16 +2,20 @@ package com.refinery.portal.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.refinery.portal.entity.User;
@@ -22,17 +26,31 @@ import com.refinery.portal.repository.UserRepository;
 public class UserService implements UserDetailsService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
+    // Authenticated principals by username; sized and expired by spring.cache.caffeine.spec
+    public static final String USER_CACHE = "users";
+
+    // Usernames compare case-insensitively in the database, so entries are keyed by the lower-cased name
+    private static final String USER_KEY = "#username.toLowerCase(T(java.util.Locale).ROOT)";
     
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private UserAvailabilityFilter userAvailabilityFilter;
     
     /**
-     * Load user by username for Spring Security
+     * Load user by username for Spring Security (cached; unknown usernames are not cached)
      */
     @Override
+    @Cacheable(cacheNames = USER_CACHE, key = USER_KEY)
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         logger.debug("Loading user by username: {}", username);
         
@@ -67,6 +85,7 @@ public class UserService implements UserDetailsService {
         user.setRole(User.Role.ADMIN); // For now, all users are admins
         
         User savedUser = userRepository.save(user);
+        userAvailabilityFilter.add(savedUser.getUsername(), savedUser.getEmail());
         logger.info("User registered successfully: {}", savedUser.getUsername());
         
         return savedUser;
@@ -75,6 +94,7 @@ public class UserService implements UserDetailsService {
     /**
      * Find user by username
      */
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -82,40 +102,39 @@ public class UserService implements UserDetailsService {
     /**
      * Find user by email
      */
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
     
     /**
-     * Update user's last login time
+     * Record user's last login time; written to the database in batches by LastLoginRecorder
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateLastLogin(String username) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
-            logger.debug("Updated last login for user: {}", username);
-        }
+        lastLoginRecorder.record(username, LocalDateTime.now());
     }
     
     /**
-     * Check if username is available
+     * Check if username is available (definite negatives are answered from memory)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        return !userAvailabilityFilter.mightContainUsername(username) || !userRepository.existsByUsername(username);
     }
     
     /**
-     * Check if email is available
+     * Check if email is available (definite negatives are answered from memory)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return !userAvailabilityFilter.mightContainEmail(email) || !userRepository.existsByEmail(email);
     }
     
     /**
      * Get all enabled users
      */
+    @Transactional(readOnly = true)
     public List<User> getAllEnabledUsers() {
         return userRepository.findAllEnabledUsers();
     }
@@ -123,20 +142,25 @@ public class UserService implements UserDetailsService {
     /**
      * Get user by ID
      */
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
     
     /**
-     * Update user
+     * Update user (the username may change, so the whole cache is cleared)
      */
+    @CacheEvict(cacheNames = USER_CACHE, allEntries = true)
     public User updateUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userAvailabilityFilter.add(savedUser.getUsername(), savedUser.getEmail());
+        return savedUser;
     }
     
     /**
      * Delete user (soft delete by disabling)
      */
+    @CacheEvict(cacheNames = USER_CACHE, allEntries = true)
     public void deleteUser(Long id) {
         Optional<User> userOpt = userRepository.findById(id);
         if (userOpt.isPresent()) {
@@ -150,6 +174,7 @@ public class UserService implements UserDetailsService {
     /**
      * Change user password
      */
+    @CacheEvict(cacheNames = USER_CACHE, key = USER_KEY)
     public void changePassword(String username, String newPassword) {
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isPresent()) {
@@ -159,4 +184,9 @@ public class UserService implements UserDetailsService {
             logger.info("Password changed for user: {}", username);
         }
     }
-} 
\ No newline at end of file
+
+    // Cache key of a username, matching USER_KEY
+    public static String cacheKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,253 @@
+package com.refinery.portal.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.refinery.portal.dto.VisitorReport;
+import com.refinery.portal.entity.VisitorSketch;
+import com.refinery.portal.repository.HitCountRepository;
+import com.refinery.portal.repository.VisitorSketchRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Approximate unique-visitor analytics with bounded memory. Each page view offers the
+ * visitor's id to a HyperLogLog sketch for its page and day and to a site-wide one, and
+ * an external referer to the day's Space-Saving top-referer summary. Flushes merge the
+ * in-memory deltas into visitor_sketches, so memory holds at most one flush interval of
+ * sketches; reports merge the stored daily sketches for the requested range.
+ */
+@Component
+public class VisitorAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(VisitorAnalytics.class);
+
+    // PAGE_NAME of the site-wide visitor sketch and of the referer summary
+    public static final String SITE = "*";
+
+    private static final String TYPE_VISITORS = "HLL";
+    private static final String TYPE_REFERERS = "REFERERS";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VisitorSketchRepository visitorSketchRepository;
+
+    @Autowired
+    private HitCountRepository hitCountRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${portal.visitor-analytics.top-referers:100}")
+    private int refererCapacity;
+
+    @Value("${portal.visitor-analytics.retention-days:400}")
+    private int retentionDays;
+
+    private record SketchKey(String pageName, LocalDate date) {
+    }
+
+    private final Map<SketchKey, HyperLogLog> visitors = new ConcurrentHashMap<>();
+    private final Map<LocalDate, SpaceSaving> referers = new ConcurrentHashMap<>();
+
+    // Count one page view; referer is null for direct and same-site navigation.
+    // Offers happen inside compute, so a flush cannot remove a sketch between lookup and offer.
+    public void record(String pageName, String visitorId, String referer) {
+        LocalDate today = LocalDate.now();
+        offerVisitor(new SketchKey(pageName, today), visitorId);
+        offerVisitor(new SketchKey(SITE, today), visitorId);
+        if (referer != null) {
+            referers.compute(today, (date, summary) -> {
+                if (summary == null) {
+                    summary = new SpaceSaving(refererCapacity);
+                }
+                summary.offer(referer);
+                return summary;
+            });
+        }
+    }
+
+    private void offerVisitor(SketchKey key, String visitorId) {
+        visitors.compute(key, (k, sketch) -> {
+            if (sketch == null) {
+                sketch = new HyperLogLog();
+            }
+            sketch.offer(visitorId);
+            return sketch;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${portal.visitor-analytics.flush-interval-ms:300000}")
+    public synchronized void flush() {
+        Map<SketchKey, HyperLogLog> visitorDeltas = new HashMap<>();
+        for (SketchKey key : visitors.keySet()) {
+            HyperLogLog delta = visitors.remove(key);
+            if (delta != null) {
+                visitorDeltas.put(key, delta);
+            }
+        }
+        Map<LocalDate, SpaceSaving> refererDeltas = new HashMap<>();
+        for (LocalDate date : referers.keySet()) {
+            SpaceSaving delta = referers.remove(date);
+            if (delta != null) {
+                refererDeltas.put(date, delta);
+            }
+        }
+        if (visitorDeltas.isEmpty() && refererDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                visitorDeltas.forEach((key, delta) -> mergeInto(TYPE_VISITORS, key.pageName(), key.date(), stored -> {
+                    if (stored == null) {
+                        return delta.toBytes();
+                    }
+                    HyperLogLog merged = HyperLogLog.fromBytes(stored);
+                    merged.merge(delta);
+                    return merged.toBytes();
+                }));
+                refererDeltas.forEach((date, delta) -> mergeInto(TYPE_REFERERS, SITE, date, stored -> {
+                    if (stored == null) {
+                        return delta.toBytes();
+                    }
+                    SpaceSaving merged = SpaceSaving.fromBytes(stored, refererCapacity);
+                    merged.merge(delta);
+                    return merged.toBytes();
+                }));
+            });
+            meterRegistry.counter("portal.visitor-analytics.flushed-sketches")
+                    .increment(visitorDeltas.size() + refererDeltas.size());
+        } catch (RuntimeException e) {
+            // Fold the deltas back in so the next flush retries them
+            visitorDeltas.forEach((key, delta) -> visitors.merge(key, delta, (current, back) -> {
+                current.merge(back);
+                return current;
+            }));
+            refererDeltas.forEach((date, delta) -> referers.merge(date, delta, (current, back) -> {
+                current.merge(back);
+                return current;
+            }));
+            logger.warn("Failed to flush visitor sketches: {}", e.getMessage());
+        }
+    }
+
+    // Read-modify-write of one sketch row under a row lock, so concurrent flushes from other nodes merge too
+    private void mergeInto(String type, String pageName, LocalDate date, UnaryOperator<byte[]> merger) {
+        List<byte[]> stored = jdbcTemplate.query(
+                "SELECT DATA FROM visitor_sketches WHERE SKETCH_TYPE = ? AND PAGE_NAME = ? AND SKETCH_DATE = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getBytes(1), type, pageName, Date.valueOf(date));
+        byte[] merged = merger.apply(stored.isEmpty() ? null : stored.get(0));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (stored.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO visitor_sketches (SKETCH_TYPE, PAGE_NAME, SKETCH_DATE, DATA, MODIFIED_DATE) " +
+                    "VALUES (?, ?, ?, ?, ?)", type, pageName, Date.valueOf(date), merged, now);
+        } else {
+            jdbcTemplate.update("UPDATE visitor_sketches SET DATA = ?, MODIFIED_DATE = ? " +
+                    "WHERE SKETCH_TYPE = ? AND PAGE_NAME = ? AND SKETCH_DATE = ?", merged, now, type, pageName, Date.valueOf(date));
+        }
+    }
+
+    // Drop sketches past the retention period
+    @Scheduled(cron = "${portal.visitor-analytics.cleanup-cron:0 45 2 * * *}")
+    public void deleteExpiredSketches() {
+        int deleted = jdbcTemplate.update("DELETE FROM visitor_sketches WHERE SKETCH_DATE < ?",
+                Date.valueOf(LocalDate.now().minusDays(retentionDays)));
+        if (deleted > 0) {
+            logger.info("Deleted {} visitor sketches older than {} days", deleted, retentionDays);
+        }
+    }
+
+    // Merge the stored and pending sketches for the inclusive date range into a report
+    public VisitorReport getReport(LocalDate from, LocalDate to, int topReferers) {
+        Map<String, HyperLogLog> pageVisitors = new HashMap<>();
+        Map<LocalDate, HyperLogLog> dailyVisitors = new TreeMap<>();
+        HyperLogLog siteVisitors = new HyperLogLog();
+        SpaceSaving topRefererSummary = new SpaceSaving(refererCapacity);
+
+        List<VisitorSketch> stored = visitorSketchRepository.findBetween(from, to);
+        for (VisitorSketch sketch : stored) {
+            if (TYPE_REFERERS.equals(sketch.getSketchType())) {
+                topRefererSummary.merge(SpaceSaving.fromBytes(sketch.getData(), refererCapacity));
+            } else {
+                addVisitors(sketch.getPageName(), sketch.getSketchDate(), HyperLogLog.fromBytes(sketch.getData()),
+                        pageVisitors, dailyVisitors, siteVisitors);
+            }
+        }
+        // Include what has not been flushed yet
+        visitors.forEach((key, sketch) -> {
+            if (!key.date().isBefore(from) && !key.date().isAfter(to)) {
+                addVisitors(key.pageName(), key.date(), sketch, pageVisitors, dailyVisitors, siteVisitors);
+            }
+        });
+        referers.forEach((date, summary) -> {
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                topRefererSummary.merge(summary);
+            }
+        });
+
+        Map<String, Long> pageViews = new HashMap<>();
+        for (Object[] row : hitCountRepository.sumByPage(from, to)) {
+            pageViews.put((String) row[0], ((Number) row[1]).longValue());
+        }
+
+        List<VisitorReport.PageStats> pages = new ArrayList<>();
+        pageVisitors.forEach((page, sketch) ->
+                pages.add(new VisitorReport.PageStats(page, sketch.estimate(), pageViews.getOrDefault(page, 0L))));
+        pages.sort(Comparator.comparingLong(VisitorReport.PageStats::uniqueVisitors).reversed()
+                .thenComparing(VisitorReport.PageStats::page));
+
+        List<VisitorReport.DailyVisitors> days = new ArrayList<>();
+        dailyVisitors.forEach((date, sketch) -> days.add(new VisitorReport.DailyVisitors(date, sketch.estimate())));
+
+        List<VisitorReport.RefererCount> topRefererList = topRefererSummary.entries().stream()
+                .limit(topReferers)
+                .map(entry -> new VisitorReport.RefererCount(entry.key(), entry.count()))
+                .toList();
+
+        long totalViews = pageViews.values().stream().mapToLong(Long::longValue).sum();
+        return new VisitorReport(from, to, siteVisitors.estimate(), totalViews, pages, days, topRefererList);
+    }
+
+    private static void addVisitors(String pageName, LocalDate date, HyperLogLog sketch, Map<String, HyperLogLog> pageVisitors,
+                                    Map<LocalDate, HyperLogLog> dailyVisitors, HyperLogLog siteVisitors) {
+        if (SITE.equals(pageName)) {
+            dailyVisitors.computeIfAbsent(date, d -> new HyperLogLog()).merge(sketch);
+            siteVisitors.merge(sketch);
+        } else {
+            pageVisitors.computeIfAbsent(pageName, p -> new HyperLogLog()).merge(sketch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,18 +2,32 @@ package com.refinery.portal.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.refinery.portal.dto.DataTablesRequest;
+import com.refinery.portal.dto.DataTablesResponse;
+import com.refinery.portal.dto.ReorderRequest;
+import com.refinery.portal.dto.WhatsNewRow;
 import com.refinery.portal.entity.WhatsNew;
+import com.refinery.portal.event.ContentChangedEvent;
 import com.refinery.portal.repository.WhatsNewRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 @Transactional
 public class WhatsNewService {
@@ -21,15 +35,49 @@ public class WhatsNewService {
     @Autowired
     private WhatsNewRepository whatsNewRepository;
 
-    // Get active items for dashboard (top 5)
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TableCountCache tableCountCache;
+
+    @Autowired
+    private PortalSettings portalSettings;
+
+    @Autowired
+    private ActiveWhatsNewIndex activeWhatsNewIndex;
+
+    @Autowired
+    private DisplayOrderWriter displayOrderWriter;
+
+    @Value("${portal.content.bulk-chunk-size:1000}")
+    private int bulkChunkSize;
+
+    // DataTables column name -> entity property; anything else sorts by display order
+    private static final Map<String, String> TABLE_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "priority", "priority",
+            "displayOrder", "displayOrder",
+            "validFrom", "validFrom",
+            "validTo", "validTo",
+            "enabled", "enabled");
+
+    // Active items are served from ActiveWhatsNewIndex and must not hold a connection
+
+    // Get active items for dashboard (top DASHBOARD_WHATSNEW_LIMIT, default 5)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<WhatsNew> getActiveWhatsNewForDashboard() {
-        Pageable pageable = PageRequest.of(0, 5);
-        return whatsNewRepository.findActiveWhatsNewForDashboard(pageable).getContent();
+        return activeWhatsNewIndex.getTop(portalSettings.getDashboardWhatsNewLimit());
     }
 
     // Get all active items
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<WhatsNew> getAllActiveWhatsNew() {
-        return whatsNewRepository.findActiveWhatsNew();
+        return activeWhatsNewIndex.getActive();
     }
 
     // Get all items with pagination
@@ -51,6 +99,7 @@ public class WhatsNewService {
     }
 
     // Get items by date range
+    @Transactional(readOnly = true)
     public Page<WhatsNew> getWhatsNewByDateRange(LocalDate fromDate, LocalDate toDate, 
                                                  int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -58,6 +107,7 @@ public class WhatsNewService {
     }
 
     // Get items by enabled status and date range
+    @Transactional(readOnly = true)
     public Page<WhatsNew> getWhatsNewByEnabledAndDateRange(Boolean enabled, LocalDate fromDate, 
                                                           LocalDate toDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -65,18 +115,52 @@ public class WhatsNewService {
     }
 
     // Search by title
+    @Transactional(readOnly = true)
     public Page<WhatsNew> searchWhatsNewByTitle(String title, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return whatsNewRepository.findByTitleContainingIgnoreCase(title, pageable);
     }
 
     // Get item by ID
+    @Transactional(readOnly = true)
     public Optional<WhatsNew> getWhatsNewById(Long id) {
         return whatsNewRepository.findById(id);
     }
 
+    // One page of the management table for the DataTables server-side protocol
+    @Transactional(readOnly = true)
+    public DataTablesResponse<WhatsNewRow> getTablePage(DataTablesRequest request) {
+        String property = request.getOrderColumn() != null
+                ? TABLE_SORT_COLUMNS.getOrDefault(request.getOrderColumn(), "displayOrder")
+                : "displayOrder";
+        Sort.Direction direction = request.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // id as tiebreaker keeps the order total, so pages never overlap or skip rows
+        Sort sort = Sort.by(direction, property).and(Sort.by(direction, "id"));
+        Pageable pageable = request.toPageable(sort);
+
+        long total = tableCountCache.getTotal(ContentChangedEvent.ContentType.WHATSNEW, whatsNewRepository::count);
+        if (request.getSearch() == null) {
+            return new DataTablesResponse<>(request.getDraw(), total, total, whatsNewRepository.findTableRows(pageable));
+        }
+        return new DataTablesResponse<>(request.getDraw(), total,
+                whatsNewRepository.countTableRows(request.getSearch()),
+                whatsNewRepository.searchTableRows(request.getSearch(), pageable));
+    }
+
     // Save or update item with priority management
     public WhatsNew saveWhatsNew(WhatsNew whatsNew) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String operation = whatsNew.getId() == null ? "create" : "update";
+        try {
+            WhatsNew saved = doSaveWhatsNew(whatsNew);
+            publishChange();
+            return saved;
+        } finally {
+            sample.stop(meterRegistry.timer("portal.content.save", "type", "whatsnew", "operation", operation));
+        }
+    }
+
+    private WhatsNew doSaveWhatsNew(WhatsNew whatsNew) {
         if (whatsNew.getId() == null) {
             // New item - handle priority ordering
             handlePriorityForNewItem(whatsNew);
@@ -144,6 +228,7 @@ public class WhatsNewService {
     private void shiftItemsAfterPosition(Integer targetPriority, Integer fromPosition) {
         // Get all items that should come after this position
         List<WhatsNew> allItems = whatsNewRepository.findAll();
+        int shifted = 0;
         
         for (WhatsNew item : allItems) {
             if (item.getDisplayOrder() != null && item.getDisplayOrder() >= fromPosition) {
@@ -151,71 +236,95 @@ public class WhatsNewService {
                 if (!item.getPriority().equals(targetPriority) || item.getDisplayOrder() > fromPosition) {
                     item.setDisplayOrder(item.getDisplayOrder() + 1);
                     whatsNewRepository.save(item);
+                    shifted++;
                 }
             }
         }
+        recordShiftedRows(shifted);
     }
 
     private void shiftItemsDownAfterRemoval(Integer removedPosition) {
         // Get all items that come after the removed position
         List<WhatsNew> allItems = whatsNewRepository.findAll();
+        int shifted = 0;
         
         for (WhatsNew item : allItems) {
             if (item.getDisplayOrder() != null && item.getDisplayOrder() > removedPosition) {
                 item.setDisplayOrder(item.getDisplayOrder() - 1);
                 whatsNewRepository.save(item);
+                shifted++;
             }
         }
+        recordShiftedRows(shifted);
     }
 
-    // Delete item
+    // Rows rewritten by display order maintenance (write amplification of a single save)
+    private void recordShiftedRows(int shifted) {
+        meterRegistry.counter("portal.content.reorder.rows", "type", "whatsnew").increment(shifted);
+    }
+
+    // What's New rows changed; listeners act after commit
+    private void publishChange() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.WHATSNEW));
+    }
+
+    // Delete item and close the gap it leaves in the display order
     public void deleteWhatsNew(Long id) {
         whatsNewRepository.deleteById(id);
+        compactDisplayOrders();
+        publishChange();
     }
 
     // Check if item exists
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return whatsNewRepository.existsById(id);
     }
 
     // Get count of active items
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getActiveWhatsNewCount() {
-        return whatsNewRepository.countActiveWhatsNew();
+        return activeWhatsNewIndex.count();
     }
 
-    // Toggle enabled status
-    public WhatsNew toggleEnabled(Long id) {
-        Optional<WhatsNew> optionalWhatsNew = whatsNewRepository.findById(id);
-        if (optionalWhatsNew.isPresent()) {
-            WhatsNew whatsNew = optionalWhatsNew.get();
-            whatsNew.setEnabled(!whatsNew.getEnabled());
-            whatsNew.setModifiedDate(LocalDate.now());
-            return whatsNewRepository.save(whatsNew);
+    // Toggle enabled status with a single UPDATE; returns the new status
+    public boolean toggleEnabled(Long id) {
+        if (whatsNewRepository.toggleEnabled(id, LocalDate.now()) == 0) {
+            throw new RuntimeException("WhatsNew item not found with id: " + id);
         }
-        throw new RuntimeException("WhatsNew item not found with id: " + id);
+        publishChange();
+        return whatsNewRepository.findEnabledById(id);
     }
 
     // Bulk operations
     public void deleteMultiple(List<Long> ids) {
         whatsNewRepository.deleteAllById(ids);
+        compactDisplayOrders();
+        publishChange();
     }
 
-    public void enableMultiple(List<Long> ids) {
-        List<WhatsNew> items = whatsNewRepository.findAllById(ids);
-        items.forEach(item -> {
-            item.setEnabled(true);
-            item.setModifiedDate(LocalDate.now());
-        });
-        whatsNewRepository.saveAll(items);
+    // Returns the number of items updated
+    public int enableMultiple(List<Long> ids) {
+        return updateEnabled(ids, true);
     }
 
-    public void disableMultiple(List<Long> ids) {
-        List<WhatsNew> items = whatsNewRepository.findAllById(ids);
-        items.forEach(item -> {
-            item.setEnabled(false);
-            item.setModifiedDate(LocalDate.now());
-        });
-        whatsNewRepository.saveAll(items);
+    public int disableMultiple(List<Long> ids) {
+        return updateEnabled(ids, false);
+    }
+
+    // One UPDATE ... WHERE ID IN (...) per chunk of ids, then a single change event
+    private int updateEnabled(List<Long> ids, boolean enabled) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        LocalDate today = LocalDate.now();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + bulkChunkSize, distinctIds.size()));
+            updated += whatsNewRepository.updateEnabled(chunk, enabled, today);
+        }
+        if (updated > 0) {
+            publishChange();
+        }
+        return updated;
     }
 
     /**
@@ -246,6 +355,8 @@ public class WhatsNewService {
             item.setDisplayOrder(i + 1);
             whatsNewRepository.save(item);
         }
+        recordShiftedRows(allItems.size());
+        publishChange();
     }
 
     public Page<WhatsNew> getAllWhatsNew(Pageable pageable) {
@@ -255,44 +366,38 @@ public class WhatsNewService {
     }
 
     /**
-     * Initialize display orders for existing records that don't have them or have incorrect ordering
+     * Initialize display orders for existing records that don't have them
      */
     @Transactional
     public void initializeDisplayOrdersIfNeeded() {
-        List<WhatsNew> allItems = whatsNewRepository.findAll();
-        
-        // Check if there are any items without display orders
-        boolean hasItemsWithoutOrder = allItems.stream()
-            .anyMatch(w -> w.getDisplayOrder() == null);
-        
-        // Check if display orders are properly sequential (1, 2, 3, 4, 5...)
-        boolean hasIncorrectSequence = false;
-        if (!hasItemsWithoutOrder && !allItems.isEmpty()) {
-            // Sort by priority first, then creation date (same as recalculation logic)
-            allItems.sort((i1, i2) -> {
-                int priorityCompare = i1.getPriority().compareTo(i2.getPriority());
-                if (priorityCompare != 0) {
-                    return priorityCompare;
-                }
-                if (i1.getCreatedDate() != null && i2.getCreatedDate() != null) {
-                    return i1.getCreatedDate().compareTo(i2.getCreatedDate());
-                }
-                return i1.getId().compareTo(i2.getId());
-            });
-            
-            // Check if display orders match expected sequence
-            for (int i = 0; i < allItems.size(); i++) {
-                if (allItems.get(i).getDisplayOrder() == null || 
-                    !allItems.get(i).getDisplayOrder().equals(i + 1)) {
-                    hasIncorrectSequence = true;
-                    break;
-                }
-            }
-        }
-        
-        // Recalculate if needed
-        if (hasItemsWithoutOrder || hasIncorrectSequence) {
+        if (whatsNewRepository.countByDisplayOrderIsNull() > 0) {
             recalculateAllDisplayOrders();
         }
     }
+
+    /**
+     * Close gaps and duplicates in the display order (after deletes and archiving) by numbering
+     * the rows 1..n in their current order, so a manual reorder is kept. Write paths only: it
+     * locks the table's rows. Returns the number of rows renumbered; the caller publishes the change.
+     */
+    public int compactDisplayOrders() {
+        // Pending JPA deletes must reach the table before it is renumbered with JDBC
+        whatsNewRepository.flush();
+        int renumbered = displayOrderWriter.compact("vrp_whatsnew");
+        recordShiftedRows(renumbered);
+        return renumbered;
+    }
+
+    /**
+     * Apply a drag-and-drop reorder in one transaction; returns the number of items renumbered.
+     * Priorities are left as they are; they only place new or re-prioritised items.
+     */
+    public int reorder(ReorderRequest request) {
+        int renumbered = displayOrderWriter.reorder("vrp_whatsnew", request);
+        recordShiftedRows(renumbered);
+        if (renumbered > 0) {
+            publishChange();
+        }
+        return renumbered;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.refinery.portal.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.refinery.portal.dto.WordOfTheDay;
+import com.refinery.portal.entity.HindiWord;
+import com.refinery.portal.entity.TeluguWord;
+import com.refinery.portal.repository.HindiWordRepository;
+import com.refinery.portal.repository.TeluguWordRepository;
+
+/**
+ * Hindi and Telugu words of the day, chosen once at startup and at midnight and then served
+ * from memory. A word whose DISPLAY_DATE is the day wins; on days nothing is scheduled the
+ * undated words take turns in id order (day number modulo their count), so every instance
+ * picks the same word without writing anything back.
+ */
+@Service
+public class WordOfTheDayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WordOfTheDayService.class);
+
+    @Autowired
+    private HindiWordRepository hindiWordRepository;
+
+    @Autowired
+    private TeluguWordRepository teluguWordRepository;
+
+    private volatile DailyWords today = new DailyWords(null, null, null);
+
+    // The words chosen for one date; either may be null when the language has no enabled words
+    public record DailyWords(LocalDate date, WordOfTheDay hindi, WordOfTheDay telugu) {
+    }
+
+    // Today's words without touching the database
+    public DailyWords getToday() {
+        return today;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        precompute();
+    }
+
+    // Choose the day's words; on failure the previous day's words stay up
+    @Scheduled(cron = "${portal.word-of-the-day.cron:0 0 0 * * *}")
+    public void precompute() {
+        LocalDate date = LocalDate.now();
+        try {
+            WordOfTheDay hindi = choose(date, hindiWordRepository::findScheduledFor, hindiWordRepository::countUnscheduled,
+                    hindiWordRepository::findUnscheduled,
+                    word -> new WordOfTheDay("hi", word.getWord(), word.getEnglishMeaning(), word.getPronunciation(), word.getUsageExample()));
+            WordOfTheDay telugu = choose(date, teluguWordRepository::findScheduledFor, teluguWordRepository::countUnscheduled,
+                    teluguWordRepository::findUnscheduled,
+                    word -> new WordOfTheDay("te", word.getWord(), word.getEnglishMeaning(), word.getPronunciation(), word.getUsageExample()));
+            today = new DailyWords(date, hindi, telugu);
+            logger.info("Words of the day for {}: {} / {}", date,
+                    hindi != null ? hindi.word() : "-", telugu != null ? telugu.word() : "-");
+        } catch (RuntimeException e) {
+            logger.warn("Could not choose the words of the day for {}: {}", date, e.getMessage());
+        }
+    }
+
+    private static <W> WordOfTheDay choose(LocalDate date,
+                                           ScheduledLookup<W> scheduled,
+                                           LongSupplier unscheduledCount,
+                                           Function<Pageable, List<W>> unscheduled,
+                                           Function<W, WordOfTheDay> toWord) {
+        List<W> forDate = scheduled.find(date, PageRequest.of(0, 1));
+        if (!forDate.isEmpty()) {
+            return toWord.apply(forDate.get(0));
+        }
+        long count = unscheduledCount.getAsLong();
+        if (count == 0) {
+            return null;
+        }
+        int index = (int) Math.floorMod(date.toEpochDay(), count);
+        List<W> rotated = unscheduled.apply(PageRequest.of(index, 1));
+        return rotated.isEmpty() ? null : toWord.apply(rotated.get(0));
+    }
+
+    @FunctionalInterface
+    private interface ScheduledLookup<W> {
+        List<W> find(LocalDate date, Pageable pageable);
+    }
+}
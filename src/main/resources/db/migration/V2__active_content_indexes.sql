@@ -0,0 +1,22 @@
+-- Composite indexes for the active-item queries:
+--   WHERE ENABLED = true AND VALIDFROM <= today AND (VALIDTO IS NULL OR VALIDTO >= today)
+--   ORDER BY DISPLAY_ORDER
+-- ENABLED is matched by equality, so rows come off the index already in DISPLAY_ORDER
+-- order (no filesort) and the date window is checked from the index without a row lookup.
+-- COUNT of active items is answered from the index alone.
+
+-- Databases created by ddl-auto may predate this column
+ALTER TABLE vrp_whatsnew ADD COLUMN IF NOT EXISTS DISPLAY_ORDER INTEGER DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_whatsnew_active ON vrp_whatsnew (ENABLED, DISPLAY_ORDER, VALIDFROM, VALIDTO);
+CREATE INDEX IF NOT EXISTS idx_whatsnew_priority_order ON vrp_whatsnew (PRIORITY, DISPLAY_ORDER);
+CREATE INDEX IF NOT EXISTS idx_whatsnew_display_order ON vrp_whatsnew (DISPLAY_ORDER);
+
+CREATE INDEX IF NOT EXISTS idx_scrollmsg_active ON vrp_scrollmsg (ENABLED, DISPLAY_ORDER, VALIDFROM, VALIDTO);
+CREATE INDEX IF NOT EXISTS idx_scrollmsg_priority_order ON vrp_scrollmsg (PRIORITY, DISPLAY_ORDER);
+
+-- Left prefixes of the composite indexes above
+DROP INDEX IF EXISTS idx_enabled ON vrp_whatsnew;
+DROP INDEX IF EXISTS idx_priority ON vrp_whatsnew;
+DROP INDEX IF EXISTS idx_enabled ON vrp_scrollmsg;
+DROP INDEX IF EXISTS idx_priority ON vrp_scrollmsg;
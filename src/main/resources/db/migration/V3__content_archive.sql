@@ -0,0 +1,47 @@
+-- Cold storage for expired content. ArchiveService moves rows whose VALIDTO is older
+-- than portal.archive.retention-days out of the hot tables in small batches; the
+-- history pages read from here. Rows keep their original ID.
+
+CREATE TABLE IF NOT EXISTS vrp_whatsnew_archive (
+    ID BIGINT PRIMARY KEY,
+    TITLE VARCHAR(200) NOT NULL,
+    DESCRIPTION TEXT,
+    URL VARCHAR(500),
+    VALIDFROM DATE NOT NULL,
+    VALIDTO DATE,
+    ENABLED BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIORITY INTEGER DEFAULT 0,
+    CREATED_DATE DATE,
+    MODIFIED_DATE DATE,
+    ARCHIVED_DATE DATE NOT NULL,
+
+    INDEX idx_whatsnew_archive_validto (VALIDTO),
+    INDEX idx_whatsnew_archive_archived (ARCHIVED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS vrp_scrollmsg_archive (
+    ID BIGINT PRIMARY KEY,
+    MSG_HEADER VARCHAR(200) NOT NULL,
+    MESSAGE TEXT NOT NULL,
+    MESSAGE_HINDI TEXT,
+    MSG_HEADER_HINDI VARCHAR(200),
+    VALIDFROM DATE NOT NULL,
+    VALIDTO DATE,
+    ENABLED BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIORITY INTEGER DEFAULT 1,
+    SPEED VARCHAR(20) DEFAULT 'normal',
+    COLOR VARCHAR(20) DEFAULT '#000000',
+    BGCOLOR VARCHAR(20) DEFAULT '#FFFFFF',
+    MSGBY VARCHAR(50),
+    CREATED_DATE DATE,
+    MODIFIED_DATE DATE,
+    DTSTAMP DATETIME,
+    ARCHIVED_DATE DATE NOT NULL,
+
+    INDEX idx_scrollmsg_archive_validto (VALIDTO),
+    INDEX idx_scrollmsg_archive_archived (ARCHIVED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- The archive job selects expired rows by VALIDTO
+CREATE INDEX IF NOT EXISTS idx_whatsnew_validto ON vrp_whatsnew (VALIDTO);
+CREATE INDEX IF NOT EXISTS idx_scrollmsg_validto ON vrp_scrollmsg (VALIDTO);
@@ -0,0 +1,15 @@
+-- Unique-visitor analytics. VisitorAnalytics keeps a HyperLogLog sketch per page and day
+-- (PAGE_NAME '*' for the whole site) and a top-referer summary per day in memory, and
+-- merges them into these rows on each flush. No per-visitor data is stored.
+
+CREATE TABLE IF NOT EXISTS visitor_sketches (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    SKETCH_TYPE VARCHAR(20) NOT NULL,
+    PAGE_NAME VARCHAR(100) NOT NULL,
+    SKETCH_DATE DATE NOT NULL,
+    DATA BLOB NOT NULL,
+    MODIFIED_DATE TIMESTAMP NULL,
+
+    UNIQUE KEY uk_sketch_page_date (SKETCH_TYPE, PAGE_NAME, SKETCH_DATE),
+    INDEX idx_sketch_date (SKETCH_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,11 @@
+-- Per-user dismissals of important alerts (vrp_imp_msg popups). One row per alert holding a
+-- serialized RoaringBitmap of user ids; AlertDismissalStore keeps the bitmaps in memory and
+-- merges its changes into these rows in the background.
+
+CREATE TABLE IF NOT EXISTS vrp_imp_msg_dismissals (
+    ALERT_ID BIGINT PRIMARY KEY,
+    USER_BITMAP BLOB NOT NULL,
+    MODIFIED_DATE TIMESTAMP NULL,
+
+    CONSTRAINT fk_dismissals_alert FOREIGN KEY (ALERT_ID) REFERENCES vrp_imp_msg (ID) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
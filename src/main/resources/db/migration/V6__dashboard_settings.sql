@@ -0,0 +1,5 @@
+-- Dashboard sizes read through PortalSettings (previously hard-coded to 5). Existing values are kept.
+
+INSERT IGNORE INTO vrp_portal_info (INFO_KEY, INFO_VALUE, INFO_TYPE, CATEGORY, DESCRIPTION, ENABLED, CREATED_DATE, MODIFIED_DATE) VALUES
+('DASHBOARD_WHATSNEW_LIMIT', '5', 'NUMBER', 'DASHBOARD', 'What''s New items shown on the dashboard (1-50)', TRUE, CURDATE(), CURDATE()),
+('DASHBOARD_MESSAGE_LIMIT', '5', 'NUMBER', 'DASHBOARD', 'Message Board items shown on the dashboard (1-50)', TRUE, CURDATE(), CURDATE());
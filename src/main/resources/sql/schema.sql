@@ -1,5 +1,7 @@
 -- Database schema for Visakh Refinery Portal
 -- MariaDB/MySQL DDL Script
+-- Reference script for a clean local database. The application manages its schema
+-- with Flyway (src/main/resources/db/migration); keep both in step.
 
 -- Create database if not exists
 CREATE DATABASE IF NOT EXISTS refweb_portal CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -9,12 +11,16 @@ USE refweb_portal;
 DROP TABLE IF EXISTS vrp_whatsnew;
 DROP TABLE IF EXISTS vrp_events;
 DROP TABLE IF EXISTS vrp_scrollmsg;
+DROP TABLE IF EXISTS vrp_imp_msg_dismissals;
 DROP TABLE IF EXISTS vrp_imp_msg;
 DROP TABLE IF EXISTS vrp_portal_info;
 DROP TABLE IF EXISTS pinfo_mtype;
 DROP TABLE IF EXISTS mrp_hindi_word;
 DROP TABLE IF EXISTS vrp_telugu_word;
 DROP TABLE IF EXISTS hit_counters;
+DROP TABLE IF EXISTS vrp_whatsnew_archive;
+DROP TABLE IF EXISTS vrp_scrollmsg_archive;
+DROP TABLE IF EXISTS visitor_sketches;
 DROP TABLE IF EXISTS vrp_users;
 
 -- Table: vrp_whatsnew (What's New announcements)
@@ -27,12 +33,15 @@ CREATE TABLE vrp_whatsnew (
     VALIDTO DATE,
     ENABLED BOOLEAN NOT NULL DEFAULT TRUE,
     PRIORITY INTEGER DEFAULT 0,
+    DISPLAY_ORDER INTEGER DEFAULT 0,
     CREATED_DATE DATE,
     MODIFIED_DATE DATE,
     
-    INDEX idx_enabled (ENABLED),
+    INDEX idx_whatsnew_active (ENABLED, DISPLAY_ORDER, VALIDFROM, VALIDTO),
+    INDEX idx_whatsnew_priority_order (PRIORITY, DISPLAY_ORDER),
+    INDEX idx_whatsnew_display_order (DISPLAY_ORDER),
     INDEX idx_validfrom (VALIDFROM),
-    INDEX idx_priority (PRIORITY),
+    INDEX idx_whatsnew_validto (VALIDTO),
     INDEX idx_created_date (CREATED_DATE)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -74,10 +83,11 @@ CREATE TABLE vrp_scrollmsg (
     MODIFIED_DATE DATE,
     DTSTAMP DATETIME,
     
-    INDEX idx_enabled (ENABLED),
+    INDEX idx_scrollmsg_active (ENABLED, DISPLAY_ORDER, VALIDFROM, VALIDTO),
+    INDEX idx_scrollmsg_priority_order (PRIORITY, DISPLAY_ORDER),
     INDEX idx_display_order (DISPLAY_ORDER),
     INDEX idx_validfrom (VALIDFROM),
-    INDEX idx_priority (PRIORITY)
+    INDEX idx_scrollmsg_validto (VALIDTO)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- Table: vrp_imp_msg (Important messages/alerts)
@@ -196,6 +206,70 @@ CREATE TABLE vrp_users (
     INDEX idx_enabled (enabled)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Table: vrp_whatsnew_archive (Expired announcements moved by the archive job)
+CREATE TABLE vrp_whatsnew_archive (
+    ID BIGINT PRIMARY KEY,
+    TITLE VARCHAR(200) NOT NULL,
+    DESCRIPTION TEXT,
+    URL VARCHAR(500),
+    VALIDFROM DATE NOT NULL,
+    VALIDTO DATE,
+    ENABLED BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIORITY INTEGER DEFAULT 0,
+    CREATED_DATE DATE,
+    MODIFIED_DATE DATE,
+    ARCHIVED_DATE DATE NOT NULL,
+
+    INDEX idx_whatsnew_archive_validto (VALIDTO),
+    INDEX idx_whatsnew_archive_archived (ARCHIVED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Table: vrp_scrollmsg_archive (Expired messages moved by the archive job)
+CREATE TABLE vrp_scrollmsg_archive (
+    ID BIGINT PRIMARY KEY,
+    MSG_HEADER VARCHAR(200) NOT NULL,
+    MESSAGE TEXT NOT NULL,
+    MESSAGE_HINDI TEXT,
+    MSG_HEADER_HINDI VARCHAR(200),
+    VALIDFROM DATE NOT NULL,
+    VALIDTO DATE,
+    ENABLED BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIORITY INTEGER DEFAULT 1,
+    SPEED VARCHAR(20) DEFAULT 'normal',
+    COLOR VARCHAR(20) DEFAULT '#000000',
+    BGCOLOR VARCHAR(20) DEFAULT '#FFFFFF',
+    MSGBY VARCHAR(50),
+    CREATED_DATE DATE,
+    MODIFIED_DATE DATE,
+    DTSTAMP DATETIME,
+    ARCHIVED_DATE DATE NOT NULL,
+
+    INDEX idx_scrollmsg_archive_validto (VALIDTO),
+    INDEX idx_scrollmsg_archive_archived (ARCHIVED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Table: visitor_sketches (Serialized unique-visitor and top-referer sketches per page and day)
+CREATE TABLE visitor_sketches (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    SKETCH_TYPE VARCHAR(20) NOT NULL,
+    PAGE_NAME VARCHAR(100) NOT NULL,
+    SKETCH_DATE DATE NOT NULL,
+    DATA BLOB NOT NULL,
+    MODIFIED_DATE TIMESTAMP NULL,
+    
+    UNIQUE KEY uk_sketch_page_date (SKETCH_TYPE, PAGE_NAME, SKETCH_DATE),
+    INDEX idx_sketch_date (SKETCH_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Table: vrp_imp_msg_dismissals (Serialized bitmap of users who dismissed each alert popup)
+CREATE TABLE vrp_imp_msg_dismissals (
+    ALERT_ID BIGINT PRIMARY KEY,
+    USER_BITMAP BLOB NOT NULL,
+    MODIFIED_DATE TIMESTAMP NULL,
+    
+    CONSTRAINT fk_dismissals_alert FOREIGN KEY (ALERT_ID) REFERENCES vrp_imp_msg (ID) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- Insert default data for pinfo_mtype
 INSERT INTO pinfo_mtype (TYPE_CODE, TYPE_NAME, DESCRIPTION, ICON_CLASS, COLOR_CLASS, ENABLED, CREATED_DATE) VALUES
 ('INFO', 'Information', 'General information messages', 'bi-info-circle', 'text-info', TRUE, CURDATE()),
@@ -213,7 +287,9 @@ INSERT INTO vrp_portal_info (INFO_KEY, INFO_VALUE, INFO_TYPE, CATEGORY, DESCRIPT
 ('COPYRIGHT_TEXT', '2024 Visakh Refinery Portal. All rights reserved.', 'STRING', 'GENERAL', 'Copyright text for footer', TRUE, CURDATE(), CURDATE()),
 ('MAINTENANCE_MODE', 'FALSE', 'BOOLEAN', 'SYSTEM', 'Enable/disable maintenance mode', TRUE, CURDATE(), CURDATE()),
 ('MAX_UPLOAD_SIZE', '10485760', 'NUMBER', 'SYSTEM', 'Maximum file upload size in bytes (10MB)', TRUE, CURDATE(), CURDATE()),
-('SESSION_TIMEOUT', '1800', 'NUMBER', 'SYSTEM', 'Session timeout in seconds (30 minutes)', TRUE, CURDATE(), CURDATE());
+('SESSION_TIMEOUT', '1800', 'NUMBER', 'SYSTEM', 'Session timeout in seconds (30 minutes)', TRUE, CURDATE(), CURDATE()),
+('DASHBOARD_WHATSNEW_LIMIT', '5', 'NUMBER', 'DASHBOARD', 'What''s New items shown on the dashboard (1-50)', TRUE, CURDATE(), CURDATE()),
+('DASHBOARD_MESSAGE_LIMIT', '5', 'NUMBER', 'DASHBOARD', 'Message Board items shown on the dashboard (1-50)', TRUE, CURDATE(), CURDATE());
 
 -- Sample data for vrp_whatsnew
 INSERT INTO vrp_whatsnew (TITLE, DESCRIPTION, URL, VALIDFROM, VALIDTO, ENABLED, PRIORITY, CREATED_DATE, MODIFIED_DATE) VALUES
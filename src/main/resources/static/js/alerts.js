@@ -0,0 +1,141 @@
+/**
+ * Important Alerts - pushed to every open page over server-sent events
+ * Banners are shown at the top of the page; popups open in a modal until dismissed.
+ * Signed-in users' dismissals are stored on the server, anonymous ones in localStorage.
+ */
+(function() {
+    const script = document.currentScript;
+    const base = script.dataset.base || '/alerts';
+    const STORAGE_KEY = 'portal.dismissedAlerts';
+    const BANNER_CLASS = { info: 'alert-info', warning: 'alert-warning', error: 'alert-danger', success: 'alert-success' };
+
+    let feed = { personal: false, alerts: [] };
+    let modal = null;
+    let shownPopupId = null;
+
+    document.addEventListener('DOMContentLoaded', function() {
+        if (window.EventSource) {
+            const source = new EventSource(base + '/stream');
+            source.addEventListener('alerts', function(event) {
+                render(JSON.parse(event.data));
+            });
+        } else {
+            fetch(base + '/api/active', { headers: { 'Accept': 'application/json' } })
+                .then(response => response.ok ? response.json() : null)
+                .then(data => data && render(data));
+        }
+    });
+
+    /**
+     * Show the banners and the first popup not yet dismissed
+     */
+    function render(data) {
+        feed = data;
+        renderBanners(feed.alerts.filter(alert => !alert.popup));
+        const popup = feed.alerts.find(alert => alert.popup && !isDismissedLocally(alert.id));
+        if (popup) {
+            showPopup(popup);
+        } else if (modal && shownPopupId !== null) {
+            shownPopupId = null;
+            modal.hide();
+        }
+    }
+
+    function renderBanners(banners) {
+        let container = document.getElementById('portal-alert-banners');
+        if (!container) {
+            container = document.createElement('div');
+            container.id = 'portal-alert-banners';
+            container.className = 'container mt-2';
+            const main = document.querySelector('main') || document.body;
+            main.insertBefore(container, main.firstChild);
+        }
+        container.replaceChildren(...banners.map(alert => {
+            const banner = document.createElement('div');
+            banner.className = 'alert mb-2 ' + (BANNER_CLASS[alert.type] || 'alert-info');
+            banner.setAttribute('role', 'alert');
+            const title = document.createElement('strong');
+            title.textContent = alert.title;
+            banner.append(title, ' ', alert.message);
+            return banner;
+        }));
+    }
+
+    function showPopup(alert) {
+        const element = modalElement();
+        const header = element.querySelector('.modal-header');
+        header.className = 'modal-header text-white ' + (alert.type === 'warning' ? 'bg-warning' :
+            alert.type === 'error' ? 'bg-danger' : alert.type === 'success' ? 'bg-success' : 'bg-primary');
+        element.querySelector('.modal-title').textContent = alert.title;
+        element.querySelector('.modal-body').textContent = alert.message;
+        shownPopupId = alert.id;
+        modal.show();
+    }
+
+    function modalElement() {
+        let element = document.getElementById('portal-alert-modal');
+        if (element) {
+            return element;
+        }
+        element = document.createElement('div');
+        element.id = 'portal-alert-modal';
+        element.className = 'modal fade';
+        element.tabIndex = -1;
+        element.innerHTML =
+            '<div class="modal-dialog modal-dialog-centered"><div class="modal-content">' +
+            '<div class="modal-header"><h5 class="modal-title"></h5></div>' +
+            '<div class="modal-body" style="white-space: pre-line"></div>' +
+            '<div class="modal-footer"><button type="button" class="btn btn-secondary" data-bs-dismiss="modal">OK</button></div>' +
+            '</div></div>';
+        document.body.appendChild(element);
+        modal = new bootstrap.Modal(element);
+        element.addEventListener('hidden.bs.modal', function() {
+            if (shownPopupId !== null) {
+                const id = shownPopupId;
+                shownPopupId = null;
+                dismiss(id);
+            }
+        });
+        return element;
+    }
+
+    /**
+     * Remember the dismissal and move on to the next popup
+     */
+    function dismiss(id) {
+        if (feed.personal) {
+            const headers = {};
+            const token = document.querySelector('meta[name="_csrf"]');
+            const header = document.querySelector('meta[name="_csrf_header"]');
+            if (token && header) {
+                headers[header.content] = token.content;
+            }
+            fetch(base + '/api/' + id + '/dismiss', { method: 'POST', headers: headers });
+        }
+        rememberLocally(id);
+        render(feed);
+    }
+
+    function isDismissedLocally(id) {
+        return dismissedIds().includes(id);
+    }
+
+    function rememberLocally(id) {
+        const active = feed.alerts.map(alert => alert.id);
+        const ids = dismissedIds().filter(dismissed => active.includes(dismissed));
+        ids.push(id);
+        try {
+            localStorage.setItem(STORAGE_KEY, JSON.stringify(ids));
+        } catch (e) {
+            // Storage full or disabled; the popup may show again on the next page
+        }
+    }
+
+    function dismissedIds() {
+        try {
+            return JSON.parse(localStorage.getItem(STORAGE_KEY)) || [];
+        } catch (e) {
+            return [];
+        }
+    }
+})();
@@ -0,0 +1,92 @@
+package com.refinery.portal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * EXPLAIN checks for the V2 composite indexes on the load-test schema (H2 in MariaDB mode).
+ * H2 only avoids a sort when an index starts with the ORDER BY column, so these tests check
+ * index selection; skipping the filesort via the ENABLED equality prefix is MariaDB behaviour.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ActiveContentIndexPlanTest {
+
+    private static final String ACTIVE_WINDOW =
+            " WHERE ENABLED = TRUE AND (VALIDTO IS NULL OR VALIDTO >= DATE '2026-01-01')";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The loadtest schema comes from the entities; add the CREATE INDEX statements of V2 to it
+    @BeforeEach
+    void createMigrationIndexes() throws IOException {
+        String script = new ClassPathResource("db/migration/V2__active_content_indexes.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+        Arrays.stream(script.split(";"))
+                .map(statement -> statement.lines()
+                        .filter(line -> !line.trim().startsWith("--"))
+                        .collect(Collectors.joining(" "))
+                        .trim())
+                .filter(statement -> statement.startsWith("CREATE INDEX"))
+                .forEach(jdbcTemplate::execute);
+    }
+
+    @Test
+    void activeMessageCandidatesUseTheActiveIndex() {
+        String plan = explain("SELECT * FROM vrp_scrollmsg" + ACTIVE_WINDOW + " ORDER BY DISPLAY_ORDER");
+
+        assertThat(indexLookup(plan)).startsWith("public.idx_scrollmsg_active:").contains("enabled = TRUE");
+    }
+
+    @Test
+    void activeWhatsNewCandidatesUseTheActiveIndex() {
+        String plan = explain("SELECT * FROM vrp_whatsnew" + ACTIVE_WINDOW + " ORDER BY DISPLAY_ORDER");
+
+        assertThat(indexLookup(plan)).startsWith("public.idx_whatsnew_active:").contains("enabled = TRUE");
+    }
+
+    @Test
+    void activeCountIsBoundedByTheIndexOnEnabledAndValidFrom() {
+        String plan = explain("SELECT COUNT(*) FROM vrp_whatsnew" + ACTIVE_WINDOW + " AND VALIDFROM <= DATE '2026-01-01'");
+
+        assertThat(indexLookup(plan)).startsWith("public.idx_whatsnew_active:")
+                .contains("enabled = TRUE")
+                .contains("validfrom <= DATE '2026-01-01'");
+    }
+
+    @Test
+    void reorderShiftsUseThePriorityIndex() {
+        String plan = explain("SELECT ID FROM vrp_scrollmsg WHERE PRIORITY = 2 AND DISPLAY_ORDER >= 5");
+
+        assertThat(indexLookup(plan)).startsWith("public.idx_scrollmsg_priority_order:")
+                .contains("priority = 2")
+                .contains("display_order >= 5");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    // H2 prints the chosen index and the conditions it is searched by as /* index: conditions */
+    private String indexLookup(String plan) {
+        int start = plan.indexOf("/*");
+        int end = plan.indexOf("*/", start);
+        assertThat(start).as("index comment in plan:%n%s", plan).isGreaterThanOrEqualTo(0);
+        return plan.substring(start + 2, end).trim();
+    }
+}
@@ -0,0 +1,55 @@
+package com.refinery.portal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.refinery.portal.dto.DataTablesRequest;
+import com.refinery.portal.dto.WhatsNewRow;
+import com.refinery.portal.entity.WhatsNew;
+
+/**
+ * DataTables windows start at the requested row even when start is not a multiple of length.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TablePageOffsetTest {
+
+    @Autowired
+    private WhatsNewRepository whatsNewRepository;
+
+    @Test
+    void windowStartsAtTheRequestedRow() {
+        for (int i = 1; i <= 30; i++) {
+            WhatsNew item = new WhatsNew("Item " + i, "Description " + i, LocalDate.of(2026, 1, 1));
+            item.setDisplayOrder(i);
+            whatsNewRepository.save(item);
+        }
+        DataTablesRequest request = DataTablesRequest.from(Map.of("draw", "3", "start", "15", "length", "10"));
+
+        List<WhatsNewRow> rows = whatsNewRepository.findTableRows(
+                request.toPageable(Sort.by("displayOrder").and(Sort.by("id"))));
+
+        assertThat(rows).extracting(WhatsNewRow::displayOrder)
+                .containsExactlyElementsOf(IntStream.rangeClosed(16, 25).boxed().toList());
+    }
+
+    @Test
+    void pageableReportsTheExactOffset() {
+        DataTablesRequest request = DataTablesRequest.from(Map.of("start", "15", "length", "10"));
+
+        assertThat(request.toPageable(Sort.unsorted()).getOffset()).isEqualTo(15);
+        assertThat(request.toPageable(Sort.unsorted()).getPageSize()).isEqualTo(10);
+    }
+}
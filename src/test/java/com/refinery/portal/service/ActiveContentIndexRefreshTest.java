@@ -0,0 +1,113 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.event.ContentChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Rows written straight to the table stand in for edits made by another instance: no
+ * ContentChangedEvent reaches this index, only the periodic check can notice them.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ActiveWhatsNewIndex.class, SimpleMeterRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActiveContentIndexRefreshTest {
+
+    @Autowired
+    private ActiveWhatsNewIndex index;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger notifications = new AtomicInteger();
+
+    @BeforeEach
+    void resetIndex() {
+        ReflectionTestUtils.setField(index, "maxAgeMillis", 300_000L);
+        index.onContentChanged(new ContentChangedEvent(ContentChangedEvent.ContentType.WHATSNEW));
+        index.onChange(notifications::incrementAndGet);
+        notifications.set(0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM vrp_whatsnew");
+    }
+
+    private void insertItem(String title, LocalDate modified) {
+        jdbcTemplate.update("INSERT INTO vrp_whatsnew (TITLE, VALIDFROM, ENABLED, PRIORITY, DISPLAY_ORDER, MODIFIED_DATE) " +
+                "VALUES (?, ?, TRUE, 2, 1, ?)", title, LocalDate.now().minusDays(1), modified);
+    }
+
+    @Test
+    void rowAddedElsewhereIsPickedUpByTheVersionCheck() {
+        insertItem("First", LocalDate.now());
+        long generation = index.getGeneration();
+        assertThat(index.count()).isEqualTo(1);
+
+        insertItem("Second", LocalDate.now());
+        assertThat(index.count()).isEqualTo(1);
+
+        index.refresh();
+
+        assertThat(index.count()).isEqualTo(2);
+        assertThat(index.getGeneration()).isGreaterThan(generation);
+    }
+
+    @Test
+    void unchangedTableKeepsTheSnapshot() {
+        insertItem("First", LocalDate.now());
+        long generation = index.getGeneration();
+
+        index.refresh();
+
+        assertThat(index.getGeneration()).isEqualTo(generation);
+    }
+
+    @Test
+    void snapshotOlderThanTheMaximumAgeIsReloaded() {
+        insertItem("First", LocalDate.now());
+        long generation = index.getGeneration();
+        // Same row count and modification day: only the age limit catches this edit
+        jdbcTemplate.update("UPDATE vrp_whatsnew SET ENABLED = FALSE");
+        ReflectionTestUtils.setField(index, "maxAgeMillis", -1L);
+
+        index.refresh();
+
+        assertThat(index.count()).isZero();
+        assertThat(index.getGeneration()).isGreaterThan(generation);
+        assertThat(notifications).hasValue(1);
+    }
+
+    @Test
+    void unchangedSnapshotOlderThanTheMaximumAgeKeepsItsGeneration() {
+        insertItem("First", LocalDate.now());
+        long generation = index.getGeneration();
+        ReflectionTestUtils.setField(index, "maxAgeMillis", -1L);
+
+        index.refresh();
+
+        assertThat(index.getGeneration()).isEqualTo(generation);
+        assertThat(notifications).hasValue(0);
+    }
+}
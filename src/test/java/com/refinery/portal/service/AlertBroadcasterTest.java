@@ -0,0 +1,53 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.refinery.portal.dto.AlertFeed;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AlertBroadcasterTest {
+
+    private static final AlertFeed FEED = new AlertFeed(false, List.of());
+
+    private AlertBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new AlertBroadcaster(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(broadcaster, "streamTimeout", 60_000L);
+        ReflectionTestUtils.setField(broadcaster, "maxStreams", 4);
+        ReflectionTestUtils.setField(broadcaster, "maxAnonymousStreams", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void anonymousStreamsStopAtTheirOwnLimit() {
+        assertThat(broadcaster.subscribe(AlertBroadcaster.ANONYMOUS, FEED)).isNotNull();
+        assertThat(broadcaster.subscribe(AlertBroadcaster.ANONYMOUS, FEED)).isNotNull();
+
+        assertThat(broadcaster.subscribe(AlertBroadcaster.ANONYMOUS, FEED)).isNull();
+    }
+
+    @Test
+    void signedInUsersKeepTheReservedStreams() {
+        for (int i = 0; i < 10; i++) {
+            broadcaster.subscribe(AlertBroadcaster.ANONYMOUS, FEED);
+        }
+
+        assertThat(broadcaster.subscribe(7L, FEED)).isNotNull();
+        assertThat(broadcaster.subscribe(8L, FEED)).isNotNull();
+        assertThat(broadcaster.subscribe(9L, FEED)).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.entity.ImportantAlert;
+import com.refinery.portal.repository.ImportantAlertRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Flushes run in their own transactions, so the test commits its rows and cleans up afterwards.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ AlertDismissalStore.class, SimpleMeterRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AlertDismissalStoreTest {
+
+    @Autowired
+    private AlertDismissalStore store;
+
+    @Autowired
+    private ImportantAlertRepository alertRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM vrp_imp_msg_dismissals");
+        alertRepository.deleteAll();
+    }
+
+    private long saveAlert() {
+        return alertRepository.save(new ImportantAlert("Shutdown", "Unit 3 shutdown", "warning")).getId();
+    }
+
+    private int storedRows(long alertId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vrp_imp_msg_dismissals WHERE ALERT_ID = ?",
+                Integer.class, alertId);
+    }
+
+    @Test
+    void flushWritesDismissalsOfExistingAlerts() {
+        long alertId = saveAlert();
+        store.dismiss(alertId, 5);
+
+        store.flush();
+
+        assertThat(storedRows(alertId)).isEqualTo(1);
+        assertThat(store.isDismissed(alertId, 5)).isTrue();
+    }
+
+    @Test
+    void dismissalLandingAfterDeleteIsDropped() {
+        long alertId = saveAlert();
+        alertRepository.deleteById(alertId);
+        store.remove(alertId);
+        store.dismiss(alertId, 5);
+
+        store.flush();
+
+        assertThat(storedRows(alertId)).isZero();
+        assertThat(store.isDismissed(alertId, 5)).isFalse();
+        // Nothing is left to retry: re-creating a row with that id would otherwise be written
+        jdbcTemplate.update("INSERT INTO vrp_imp_msg (ID, TITLE, MESSAGE, ENABLED) VALUES (?, 'x', 'x', TRUE)", alertId);
+        store.flush();
+        assertThat(storedRows(alertId)).isZero();
+    }
+}
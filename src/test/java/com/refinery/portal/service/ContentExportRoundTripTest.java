@@ -0,0 +1,147 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refinery.portal.entity.MessageBoard;
+import com.refinery.portal.repository.MessageBoardRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A Message Board CSV export read back by the CSV import. The import keeps the content
+ * columns but normalises them: every field is trimmed, CRLF inside a quoted field becomes
+ * LF, and CREATED_DATE is set to VALIDFROM. IDs, DTSTAMP, DISPLAY_ORDER and MODIFIED_DATE
+ * are assigned anew.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ ContentExportService.class, DataMigrationService.class, SimpleMeterRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentExportRoundTripTest {
+
+    @Autowired
+    private ContentExportService contentExportService;
+
+    @Autowired
+    private DataMigrationService dataMigrationService;
+
+    @Autowired
+    private MessageBoardRepository messageBoardRepository;
+
+    @TempDir
+    private Path exportDir;
+
+    @AfterEach
+    void cleanUp() {
+        messageBoardRepository.deleteAll();
+    }
+
+    private MessageBoard message(String header, String text, int priority, int displayOrder) {
+        MessageBoard message = new MessageBoard();
+        message.setHeader(header);
+        message.setMessage(text);
+        message.setValidFrom(LocalDate.of(2026, 3, 1));
+        message.setPriority(priority);
+        message.setDisplayOrder(displayOrder);
+        message.setEnabled(true);
+        message.setCreatedBy("ops");
+        message.setCreatedDate(LocalDate.of(2026, 2, 20));
+        message.setModifiedDate(LocalDate.of(2026, 2, 21));
+        message.setDateTimeStamp(LocalDateTime.of(2026, 2, 21, 9, 30));
+        return message;
+    }
+
+    private List<MessageBoard> byHeader() {
+        return messageBoardRepository.findAll().stream()
+                .sorted(Comparator.comparing(MessageBoard::getHeader))
+                .toList();
+    }
+
+    @Test
+    void exportedMessagesImportWithTheirContent() throws Exception {
+        MessageBoard plain = message("A plain", "Shift change at 6", 1, 1);
+        plain.setValidTo(LocalDate.of(2026, 12, 31));
+        plain.setSpeed("fast");
+        plain.setColor("#FF0000");
+        plain.setBackgroundColor("#FFFF00");
+        MessageBoard tricky = message("B tricky", "Quote \"here\", comma\r\nsecond line", 2, 2);
+        tricky.setEnabled(false);
+        tricky.setMessageHindi("सुरक्षा पहले");
+        tricky.setHeaderHindi("सूचना");
+        MessageBoard padded = message("C padded", "  padded text  ", 2, 3);
+        messageBoardRepository.saveAll(List.of(plain, tricky, padded));
+        List<MessageBoard> exported = byHeader();
+
+        Path file = exportDir.resolve("messageboard.csv");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            assertThat(contentExportService.export("messageboard", ContentExportService.Format.CSV, out)).isEqualTo(3);
+        }
+        messageBoardRepository.deleteAll();
+        DataMigrationService.MigrationResult result = dataMigrationService.migrateCsvData(file.toString());
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getSuccessfulRecords()).isEqualTo(3);
+        List<MessageBoard> imported = byHeader();
+        assertThat(imported).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            MessageBoard before = exported.get(i);
+            MessageBoard after = imported.get(i);
+            assertThat(after).usingRecursiveComparison()
+                    .comparingOnlyFields("header", "messageHindi", "headerHindi", "validFrom", "validTo",
+                            "enabled", "priority", "createdBy", "speed", "color", "backgroundColor")
+                    .isEqualTo(before);
+            // Normalised or regenerated on import
+            assertThat(after.getId()).isNotEqualTo(before.getId());
+            assertThat(after.getCreatedDate()).isEqualTo(before.getValidFrom());
+            assertThat(after.getModifiedDate()).isEqualTo(LocalDate.now());
+            assertThat(after.getDateTimeStamp()).isNotEqualTo(before.getDateTimeStamp());
+        }
+        assertThat(imported.get(0).getMessage()).isEqualTo("Shift change at 6");
+        assertThat(imported.get(1).getMessage()).isEqualTo("Quote \"here\", comma\nsecond line");
+        assertThat(imported.get(2).getMessage()).isEqualTo("padded text");
+        assertThat(imported).extracting(MessageBoard::getDisplayOrder).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void rowRejectedOnSaveFailsAloneAndIsCounted() throws Exception {
+        Path file = exportDir.resolve("import.csv");
+        Files.writeString(file, String.join("\n",
+                "MSGID,MESSAGE,VALIDUPTO,PRIORITY,MSGBY,DTSTAMP,MSG_HEADER,VALIDFROM,ENABLED,MESSAGE_HINDI,MSG_HEADER_HINDI",
+                "1,First text,,1,ops,,A first,2026-03-01,Y,,",
+                "2,Too long,,1,ops,,B " + "x".repeat(200) + ",2026-03-01,Y,,",
+                "3,Third text,,2,ops,,C third,2026-03-01,Y,,"));
+
+        DataMigrationService.MigrationResult result = dataMigrationService.migrateCsvData(file.toString());
+
+        assertThat(result.getTotalRecords()).isEqualTo(3);
+        assertThat(result.getSuccessfulRecords()).isEqualTo(2);
+        assertThat(result.getFailedRecords()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("Line 3: ");
+        List<MessageBoard> imported = byHeader();
+        assertThat(imported).extracting(MessageBoard::getHeader).containsExactly("A first", "C third");
+        assertThat(imported).extracting(MessageBoard::getDisplayOrder).containsExactly(1, 2);
+    }
+}
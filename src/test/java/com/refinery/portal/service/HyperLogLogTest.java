@@ -0,0 +1,92 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.offer("visitor-" + i);
+        }
+        return sketch;
+    }
+
+    private static double relativeError(long estimate, long actual) {
+        return Math.abs(estimate - actual) / (double) actual;
+    }
+
+    @Test
+    void estimateIsWithinThreeStandardErrorsAtTenThousand() {
+        assertThat(relativeError(sketchOf(0, 10_000).estimate(), 10_000)).isLessThan(0.05);
+    }
+
+    @Test
+    void estimateIsWithinThreeStandardErrorsAtOneMillion() {
+        assertThat(relativeError(sketchOf(0, 1_000_000).estimate(), 1_000_000)).isLessThan(0.05);
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog sketch = sketchOf(0, 500);
+        for (int i = 0; i < 500; i++) {
+            sketch.offer("visitor-" + i);
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(500, within(25L));
+    }
+
+    @Test
+    void fewRegistersAreStoredSparse() {
+        HyperLogLog sketch = sketchOf(0, 100);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(1 + 2 + 100 * 3 + 1);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThat(HyperLogLog.fromBytes(bytes).toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void manyRegistersAreStoredDense() {
+        HyperLogLog sketch = sketchOf(0, 10_000);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes[0]).isEqualTo((byte) 0);
+        assertThat(bytes).hasSize(1 + 4096);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThat(HyperLogLog.fromBytes(bytes).toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void encodingSwitchesToDenseOnceAThirdOfTheRegistersAreSet() {
+        // 4096 registers: sparse while fewer than 1366 are set (3 bytes each), dense from then on
+        HyperLogLog sketch = new HyperLogLog();
+        int i = 0;
+        while (sketch.toBytes()[0] == 1) {
+            byte[] sparse = sketch.toBytes();
+            assertThat(sparse.length).isLessThanOrEqualTo(1 + 2 + 1365 * 3);
+            sketch.offer("visitor-" + i++);
+        }
+
+        byte[] dense = sketch.toBytes();
+        assertThat(dense).hasSize(1 + 4096);
+        assertThat(HyperLogLog.fromBytes(dense).toBytes()).isEqualTo(dense);
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog monday = sketchOf(0, 30_000);
+        HyperLogLog tuesday = sketchOf(20_000, 50_000);
+
+        monday.merge(HyperLogLog.fromBytes(tuesday.toBytes()));
+
+        assertThat(relativeError(monday.estimate(), 50_000)).isLessThan(0.05);
+        assertThat(monday.toBytes()).isEqualTo(sketchOf(0, 50_000).toBytes());
+    }
+}
@@ -0,0 +1,100 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    private static void offer(SpaceSaving summary, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            summary.offer(key);
+        }
+    }
+
+    @Test
+    void countsAreExactWhileKeysFit() {
+        SpaceSaving summary = new SpaceSaving(3);
+        offer(summary, "google.com", 5);
+        offer(summary, "bing.com", 2);
+
+        assertThat(summary.entries()).containsExactly(
+                new SpaceSaving.Entry("google.com", 5, 0),
+                new SpaceSaving.Entry("bing.com", 2, 0));
+    }
+
+    @Test
+    void newKeyInheritsTheSmallestCountAsError() {
+        SpaceSaving summary = new SpaceSaving(2);
+        offer(summary, "a", 5);
+        offer(summary, "b", 2);
+        summary.offer("c");
+
+        assertThat(summary.entries()).containsExactly(
+                new SpaceSaving.Entry("a", 5, 0),
+                new SpaceSaving.Entry("c", 3, 2));
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        SpaceSaving summary = new SpaceSaving(2);
+        offer(summary, "a", 5);
+        offer(summary, "b", 2);
+        offer(summary, "हिन्दी.example", 3);
+
+        SpaceSaving copy = SpaceSaving.fromBytes(summary.toBytes(), 2);
+
+        assertThat(copy.entries()).isEqualTo(summary.entries());
+        assertThat(copy.toBytes()).isEqualTo(summary.toBytes());
+    }
+
+    @Test
+    void fromBytesTrimsToTheSmallerCapacity() {
+        SpaceSaving summary = new SpaceSaving(3);
+        offer(summary, "a", 5);
+        offer(summary, "b", 2);
+        offer(summary, "c", 4);
+
+        SpaceSaving trimmed = SpaceSaving.fromBytes(summary.toBytes(), 2);
+
+        assertThat(trimmed.entries()).extracting(SpaceSaving.Entry::key).containsExactly("a", "c");
+    }
+
+    @Test
+    void mergeAddsCountsAndErrorsAndKeepsTheLargest() {
+        SpaceSaving stored = new SpaceSaving(2);
+        offer(stored, "a", 5);
+        offer(stored, "b", 2);
+        SpaceSaving delta = new SpaceSaving(2);
+        offer(delta, "b", 4);
+        offer(delta, "c", 1);
+        delta.offer("d"); // evicts c, so d carries error 1
+
+        stored.merge(SpaceSaving.fromBytes(delta.toBytes(), 2));
+
+        assertThat(stored.entries()).containsExactly(
+                new SpaceSaving.Entry("b", 6, 0),
+                new SpaceSaving.Entry("a", 5, 0));
+    }
+
+    @Test
+    void fullCapacityRoundTripsThroughTheShortCounter() {
+        SpaceSaving summary = new SpaceSaving(SpaceSaving.MAX_CAPACITY);
+        for (int i = 0; i < SpaceSaving.MAX_CAPACITY; i++) {
+            summary.offer("site-" + i + ".example");
+        }
+
+        SpaceSaving copy = SpaceSaving.fromBytes(summary.toBytes(), SpaceSaving.MAX_CAPACITY);
+
+        assertThat(copy.entries()).hasSize(SpaceSaving.MAX_CAPACITY).isEqualTo(summary.entries());
+    }
+
+    @Test
+    void capacityBeyondTheShortCounterIsRejected() {
+        assertThatThrownBy(() -> new SpaceSaving(SpaceSaving.MAX_CAPACITY + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpaceSaving(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
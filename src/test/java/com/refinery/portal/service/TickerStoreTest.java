@@ -0,0 +1,30 @@
+package com.refinery.portal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TickerStoreTest {
+
+    @Test
+    void gzipIsAcceptedWhenListedWithoutZeroQuality() {
+        assertThat(TickerStore.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(TickerStore.acceptsGzip("GZIP;Q=0.5")).isTrue();
+        assertThat(TickerStore.acceptsGzip("br;q=1.0, x-gzip;q=0.2")).isTrue();
+    }
+
+    @Test
+    void gzipWithZeroQualityIsRefused() {
+        assertThat(TickerStore.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(TickerStore.acceptsGzip("gzip; q=0.000, *;q=1")).isFalse();
+        assertThat(TickerStore.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void wildcardCoversGzipOnlyWhenGzipIsNotListed() {
+        assertThat(TickerStore.acceptsGzip("br, *")).isTrue();
+        assertThat(TickerStore.acceptsGzip("identity")).isFalse();
+        assertThat(TickerStore.acceptsGzip("ungzipped")).isFalse();
+        assertThat(TickerStore.acceptsGzip(null)).isFalse();
+    }
+}